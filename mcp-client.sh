@@ -6,18 +6,22 @@
 # OPTIONS:
 #   --no-server              Start client without auto-starting any MCP server
 #   --profile <profile-name> Start with specific server profile
+#   --script <file>          Run commands from a script file (- for stdin) and exit with its status
+#   --output <json|text>     Print one JSON document per command instead of text
 #   --help, -h               Show this help message
 #
 # Examples:
 #   ./mcp-client.sh --no-server              # Clean mode
 #   ./mcp-client.sh --profile test4          # Load test4 server
 #   ./mcp-client.sh --profile generic-server # Load generic server
+#   ./mcp-client.sh --profile test4 --script load.mcp # Run a script
 #   ./mcp-client.sh                          # Interactive profile selection
 
 set -e
 
 # Script directory
 SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+CALLER_DIR="$PWD"
 cd "$SCRIPT_DIR"
 
 # Colors for output
@@ -48,6 +52,8 @@ show_help() {
     echo "OPTIONS:"
     echo "  --no-server              Start client without auto-starting any MCP server"
     echo "  --profile <profile-name> Start with specific server profile"
+    echo "  --script <file>          Run commands from a script file (- for stdin) and exit with its status"
+    echo "  --output <json|text>     Print one JSON document per command instead of text"
     echo "  --help, -h               Show this help message"
     echo
     echo "Available Profiles:"
@@ -59,6 +65,7 @@ show_help() {
     echo "  ./mcp-client.sh --no-server              # Clean mode"
     echo "  ./mcp-client.sh --profile test4          # Load test4 server"
     echo "  ./mcp-client.sh --profile generic-server # Load generic server"
+    echo "  ./mcp-client.sh --profile test4 --script load.mcp # Run a script"
     echo "  ./mcp-client.sh                          # Interactive profile selection"
     echo
 }
@@ -67,6 +74,7 @@ show_help() {
 NO_SERVER=false
 PROFILE=""
 MAVEN_ARGS=()
+APP_ARGS=()
 
 while [[ $# -gt 0 ]]; do
     case $1 in
@@ -83,6 +91,27 @@ while [[ $# -gt 0 ]]; do
             fi
             shift 2
             ;;
+        --script)
+            if [ -z "$2" ]; then
+                print_error "Script file required after --script"
+                exit 1
+            fi
+            # Relative script paths are resolved against the caller's directory
+            case "$2" in
+                -|/*) SCRIPT_FILE="$2" ;;
+                *) SCRIPT_FILE="$CALLER_DIR/$2" ;;
+            esac
+            APP_ARGS+=("--script=$SCRIPT_FILE")
+            shift 2
+            ;;
+        --output)
+            if [ "$2" != "json" ] && [ "$2" != "text" ]; then
+                print_error "Output format must be json or text"
+                exit 1
+            fi
+            APP_ARGS+=("--output=$2")
+            shift 2
+            ;;
         -h|--help)
             show_help
             exit 0
@@ -174,6 +203,9 @@ fi
 
 print_status "Starting Generic MCP Client with profile: $PROFILE"
 MAVEN_ARGS+=("-Dspring-boot.run.profiles=$PROFILE")
+if [ ${#APP_ARGS[@]} -gt 0 ]; then
+    MAVEN_ARGS+=("-Dspring-boot.run.arguments=${APP_ARGS[*]}")
+fi
 
 print_status "Maven command: $MAVEN_CMD"
 
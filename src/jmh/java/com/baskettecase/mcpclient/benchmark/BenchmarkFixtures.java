@@ -0,0 +1,82 @@
+package com.baskettecase.mcpclient.benchmark;
+
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared inputs for the client hot-path benchmarks
+ */
+final class BenchmarkFixtures {
+
+    static final String TOOL_PREFIX = "generic_mcp_client_generic_";
+
+    static final String INPUT_SCHEMA = "{\"type\":\"object\",\"properties\":{"
+        + "\"name\":{\"type\":\"string\",\"description\":\"Name of the person to greet\"},"
+        + "\"count\":{\"type\":\"integer\",\"description\":\"Number of greetings\"},"
+        + "\"ratio\":{\"type\":\"number\",\"description\":\"Scaling ratio\"},"
+        + "\"loud\":{\"type\":\"boolean\",\"description\":\"Shout the greeting\"},"
+        + "\"tags\":{\"type\":\"array\",\"items\":{\"type\":\"string\"},\"description\":\"Tags to attach\"},"
+        + "\"options\":{\"type\":\"object\",\"description\":\"Extra options\"}"
+        + "},\"required\":[\"name\",\"count\"],\"additionalProperties\":false}";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Tool callbacks named the way Spring AI prefixes MCP tools
+     */
+    static ToolCallback[] toolCallbacks(int count) {
+        ToolCallback[] callbacks = new ToolCallback[count];
+        for (int i = 0; i < count; i++) {
+            ToolDefinition definition = ToolDefinition.builder()
+                .name(TOOL_PREFIX + "tool" + i)
+                .description("Benchmark tool " + i)
+                .inputSchema(INPUT_SCHEMA)
+                .build();
+            callbacks[i] = new StubToolCallback(definition);
+        }
+        return callbacks;
+    }
+
+    /**
+     * Typical interactive call: a handful of scalar arguments
+     */
+    static Map<String, Object> smallParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("name", "John \"Johnny\" Doe");
+        parameters.put("count", 3);
+        parameters.put("loud", true);
+        return parameters;
+    }
+
+    /**
+     * Automated call with many arguments including nested objects and arrays
+     */
+    static Map<String, Object> largeParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            parameters.put("field" + i, "value-" + i + " with some text to escape \t\n");
+            parameters.put("number" + i, i * 1.5);
+        }
+        parameters.put("tags", List.of("alpha", "beta", "gamma", "delta"));
+        parameters.put("options", Map.of("depth", 3, "recursive", true, "filters", List.of("*.java", "*.xml")));
+        return parameters;
+    }
+
+    record StubToolCallback(ToolDefinition definition) implements ToolCallback {
+
+        @Override
+        public ToolDefinition getToolDefinition() {
+            return definition;
+        }
+
+        @Override
+        public String call(String toolInput) {
+            return toolInput;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.baskettecase.mcpclient.benchmark;
+
+import com.baskettecase.mcpclient.benchmark.stub.StubMcpServer;
+import com.baskettecase.mcpclient.client.ServerReadinessService;
+import com.baskettecase.mcpclient.client.SpringAiMcpClientManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-stack executeTool round trips against the bundled stub MCP server
+ *
+ * Boots the client services (without the interactive CLI) with the stub
+ * registered under spring.ai.mcp.client.stdio.connections, so every call goes
+ * through Spring AI, the MCP SDK and a real STDIO child process. Sample-time
+ * mode reports latency percentiles, throughput mode runs concurrent callers.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    private static final String SERVER_NAME = "stub";
+
+    @Param({"10"})
+    public int toolCount;
+
+    @Param({"256", "65536"})
+    public int responseBytes;
+
+    @Param({"0"})
+    public int latencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private SpringAiMcpClientManager clientManager;
+    private Map<String, Object> parameters;
+
+    @Setup(Level.Trial)
+    public void startClient() {
+        context = new SpringApplicationBuilder(StubClientConfiguration.class)
+            .web(WebApplicationType.NONE)
+            .properties(clientProperties())
+            .run();
+        clientManager = context.getBean(SpringAiMcpClientManager.class);
+
+        var readiness = context.getBean(ServerReadinessService.class)
+            .connectAndAwaitReady(Map.of(SERVER_NAME, StubMcpServer.class.getName()));
+        if (readiness.getFirst().status() != ServerReadinessService.ReadinessStatus.READY) {
+            throw new IllegalStateException("Stub MCP server not ready: " + readiness.getFirst());
+        }
+
+        parameters = BenchmarkFixtures.smallParameters();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopClient() {
+        if (context != null) {
+            clientManager.shutdown();
+            context.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String executeToolLatency() {
+        return clientManager.executeTool(SERVER_NAME, "tool0", parameters);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(8)
+    public String executeToolThroughput() {
+        return clientManager.executeTool(SERVER_NAME, "tool0", parameters);
+    }
+
+    private Map<String, Object> clientProperties() {
+        String connection = "spring.ai.mcp.client.stdio.connections." + SERVER_NAME;
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.main.log-startup-info", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.ai.mcp.client.enabled", "true");
+        properties.put("spring.ai.mcp.client.name", "generic-mcp-client");
+        properties.put("spring.ai.mcp.client.type", "SYNC");
+        properties.put("spring.ai.mcp.client.request-timeout", "30s");
+        properties.put(connection + ".command", Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        properties.put(connection + ".args[0]", "-Dstub.tools=" + toolCount);
+        properties.put(connection + ".args[1]", "-Dstub.response-bytes=" + responseBytes);
+        properties.put(connection + ".args[2]", "-Dstub.latency-ms=" + latencyMillis);
+        properties.put(connection + ".args[3]", "-cp");
+        properties.put(connection + ".args[4]", System.getProperty("java.class.path"));
+        properties.put(connection + ".args[5]", StubMcpServer.class.getName());
+        return properties;
+    }
+
+    /**
+     * Client services and Spring AI auto-configuration, without the interactive CliRunner
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = {
+        "com.baskettecase.mcpclient.client",
+        "com.baskettecase.mcpclient.config",
+        "com.baskettecase.mcpclient.util"
+    })
+    static class StubClientConfiguration {
+    }
+}
@@ -0,0 +1,169 @@
+package com.baskettecase.mcpclient.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.ai.tool.ToolCallback;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-optimization implementations kept verbatim as benchmark baselines
+ */
+final class LegacyImplementations {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ThreadLocal<BufferRecycler> RECYCLER = ThreadLocal.withInitial(BufferRecycler::new);
+
+    private LegacyImplementations() {
+    }
+
+    /**
+     * Former ParameterSerializer.toJson, with generator buffers from a per-thread BufferRecycler
+     */
+    static String threadLocalRecyclerToJson(Map<String, Object> parameters) {
+        SegmentedStringWriter buffer = new SegmentedStringWriter(RECYCLER.get());
+        try {
+            try (JsonGenerator generator = MAPPER.getFactory().createGenerator(buffer)) {
+                generator.setCodec(MAPPER);
+                generator.writeObject(parameters);
+            }
+            return buffer.getAndClear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Former SpringAiMcpClientManager.convertParametersToJson
+     */
+    static String convertParametersToJson(Map<String, Object> parameters) {
+        if (parameters.isEmpty()) {
+            return "{}";
+        }
+
+        StringBuilder json = new StringBuilder("{");
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            if (!first) {
+                json.append(",");
+            }
+            json.append("\"").append(entry.getKey()).append("\":\"").append(entry.getValue()).append("\"");
+            first = false;
+        }
+        json.append("}");
+        return json.toString();
+    }
+
+    /**
+     * Former SpringAiMcpClientManager.cleanToolName
+     */
+    static String cleanToolName(String fullToolName) {
+        String[] parts = fullToolName.split("_");
+        if (parts.length >= 3) {
+            return parts[parts.length - 1];
+        }
+        return fullToolName;
+    }
+
+    /**
+     * Former linear scan in SpringAiMcpClientManager.executeTool
+     */
+    static ToolCallback findTool(ToolCallback[] callbacks, String toolName) {
+        for (ToolCallback callback : callbacks) {
+            String cleanedName = cleanToolName(callback.getToolDefinition().name());
+            String fullName = callback.getToolDefinition().name();
+            if (toolName.equals(cleanedName) || toolName.equals(fullName)) {
+                return callback;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Former CliRunner.handleListTools: list the names, then format and re-parse a
+     * description per tool, each found by a linear scan (O(n^2) in tool count)
+     */
+    static List<String> listToolDescriptions(ToolCallback[] callbacks) {
+        List<String> names = new ArrayList<>(callbacks.length);
+        for (ToolCallback callback : callbacks) {
+            names.add(cleanToolName(callback.getToolDefinition().name()));
+        }
+
+        List<String> descriptions = new ArrayList<>(names.size());
+        for (String toolName : names) {
+            ToolCallback callback = findTool(callbacks, toolName);
+            String description = String.format("Tool: %s\nDescription: %s\nInput Schema: %s",
+                toolName, callback.getToolDefinition().description(), callback.getToolDefinition().inputSchema());
+            String shortDescription = "No description available";
+            for (String line : description.split("\n")) {
+                if (line.startsWith("Description: ")) {
+                    shortDescription = line.substring(13).trim();
+                    break;
+                }
+            }
+            descriptions.add(shortDescription);
+        }
+        return descriptions;
+    }
+
+    /**
+     * Former CliRunner.parseParameterSchema, returning name to required flag
+     */
+    static Map<String, Boolean> parseParameterSchema(String toolDescription) {
+        Map<String, Boolean> parameters = new LinkedHashMap<>();
+
+        int schemaStart = toolDescription.indexOf("Input Schema: ");
+        if (schemaStart == -1) {
+            return parameters;
+        }
+
+        String schemaJson = toolDescription.substring(schemaStart + 14).trim();
+        if (schemaJson.contains("\"properties\"")) {
+            int propertiesStart = schemaJson.indexOf("\"properties\":{") + 14;
+            int propertiesEnd = findMatchingBrace(schemaJson, propertiesStart - 1);
+
+            if (propertiesStart > 13 && propertiesEnd > propertiesStart) {
+                String propertiesSection = schemaJson.substring(propertiesStart, propertiesEnd);
+                String[] paramParts = propertiesSection.split("(?=\"[^\"]+\":\\{)");
+
+                for (String paramPart : paramParts) {
+                    if (paramPart.trim().isEmpty()) continue;
+
+                    int nameStart = paramPart.indexOf("\"") + 1;
+                    int nameEnd = paramPart.indexOf("\"", nameStart);
+                    if (nameStart <= 0 || nameEnd <= nameStart) continue;
+
+                    String paramName = paramPart.substring(nameStart, nameEnd);
+                    boolean isRequired = schemaJson.contains("\"required\":[") &&
+                                       schemaJson.contains("\"" + paramName + "\"");
+                    parameters.put(paramName, isRequired);
+                }
+            }
+        }
+        return parameters;
+    }
+
+    private static int findMatchingBrace(String json, int openBraceIndex) {
+        int braceCount = 1;
+        int index = openBraceIndex + 1;
+
+        while (index < json.length() && braceCount > 0) {
+            char c = json.charAt(index);
+            if (c == '{') {
+                braceCount++;
+            } else if (c == '}') {
+                braceCount--;
+            }
+            index++;
+        }
+
+        return braceCount == 0 ? index - 1 : -1;
+    }
+}
@@ -0,0 +1,66 @@
+package com.baskettecase.mcpclient.benchmark;
+
+import com.baskettecase.mcpclient.client.ToolSchema;
+import com.baskettecase.mcpclient.util.ParameterParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command line argument parsing for invoke-tool
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParameterParserBenchmark {
+
+    private static final String[] KEY_VALUE_ARGS = {
+        "name=John", "count=3", "ratio=0.75", "loud=true", "tags=a,b,c"
+    };
+
+    private static final String[] JSON_ARGS = {
+        "{\"name\":\"John\",\"count\":3,\"ratio\":0.75,\"loud\":true,\"tags\":[\"a\",\"b\",\"c\"]}"
+    };
+
+    private ParameterParser parser;
+    private ToolSchema schema;
+
+    @Setup
+    public void setup() {
+        parser = new ParameterParser();
+        schema = ToolSchema.parse(BenchmarkFixtures.INPUT_SCHEMA);
+    }
+
+    @Benchmark
+    public Map<String, Object> keyValueInference() {
+        return parser.parseParameters(KEY_VALUE_ARGS);
+    }
+
+    @Benchmark
+    public Map<String, Object> keyValueSchemaCoercion() {
+        return parser.parseParameters(KEY_VALUE_ARGS, schema);
+    }
+
+    @Benchmark
+    public Map<String, Object> jsonArguments() {
+        return parser.parseParameters(JSON_ARGS);
+    }
+
+    @Benchmark
+    public Map<String, Object> jsonSchemaCoercion() {
+        return parser.parseParameters(JSON_ARGS, schema);
+    }
+}
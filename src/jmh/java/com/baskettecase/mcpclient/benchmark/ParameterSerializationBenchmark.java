@@ -0,0 +1,80 @@
+package com.baskettecase.mcpclient.benchmark;
+
+import com.baskettecase.mcpclient.util.ParameterSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tool parameter serialization: legacy StringBuilder concatenation vs ParameterSerializer
+ *
+ * The *OnVirtualThread pairs serialize on a fresh virtual thread per operation, as
+ * executeToolAsync does, comparing the former per-thread BufferRecycler with the
+ * serializer's shared recycler pool. Both pay the same thread start.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParameterSerializationBenchmark {
+
+    @Param({"small", "large"})
+    public String shape;
+
+    private ParameterSerializer serializer;
+    private Map<String, Object> parameters;
+    private ExecutorService virtualThreads;
+
+    @Setup
+    public void setup() {
+        serializer = new ParameterSerializer();
+        parameters = "large".equals(shape) ? BenchmarkFixtures.largeParameters() : BenchmarkFixtures.smallParameters();
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        virtualThreads.close();
+    }
+
+    @Benchmark
+    public String legacyStringBuilder() {
+        return LegacyImplementations.convertParametersToJson(parameters);
+    }
+
+    @Benchmark
+    public String serializer() {
+        return serializer.toJson(parameters);
+    }
+
+    @Benchmark
+    public String threadLocalRecyclerOnVirtualThread() throws Exception {
+        return onVirtualThread(() -> LegacyImplementations.threadLocalRecyclerToJson(parameters));
+    }
+
+    @Benchmark
+    public String serializerOnVirtualThread() throws Exception {
+        return onVirtualThread(() -> serializer.toJson(parameters));
+    }
+
+    private String onVirtualThread(Callable<String> task) throws Exception {
+        return virtualThreads.submit(task).get();
+    }
+}
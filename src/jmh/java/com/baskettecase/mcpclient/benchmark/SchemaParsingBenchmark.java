@@ -0,0 +1,56 @@
+package com.baskettecase.mcpclient.benchmark;
+
+import com.baskettecase.mcpclient.client.ToolSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input schema handling: legacy substring/regex parsing of the tool description
+ * vs compiling the schema with Jackson, and validating against the compiled schema
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaParsingBenchmark {
+
+    private String toolDescription;
+    private ToolSchema schema;
+    private Map<String, Object> arguments;
+
+    @Setup
+    public void setup() {
+        toolDescription = "Benchmark tool\n\nInput Schema: " + BenchmarkFixtures.INPUT_SCHEMA;
+        schema = ToolSchema.parse(BenchmarkFixtures.INPUT_SCHEMA);
+        arguments = Map.of("name", "John", "count", 3, "loud", true, "tags", List.of("a", "b"));
+    }
+
+    @Benchmark
+    public Map<String, Boolean> legacyDescriptionParse() {
+        return LegacyImplementations.parseParameterSchema(toolDescription);
+    }
+
+    @Benchmark
+    public ToolSchema compileSchema() {
+        return ToolSchema.parse(BenchmarkFixtures.INPUT_SCHEMA);
+    }
+
+    @Benchmark
+    public List<String> validateArguments() {
+        return schema.validate(arguments);
+    }
+}
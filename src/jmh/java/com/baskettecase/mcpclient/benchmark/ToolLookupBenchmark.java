@@ -0,0 +1,81 @@
+package com.baskettecase.mcpclient.benchmark;
+
+import com.baskettecase.mcpclient.client.ToolRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.tool.ToolCallback;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tool resolution by name: legacy linear scan with split() vs the indexed ToolRegistry
+ *
+ * The looked-up tool is the last one discovered, the worst case for the linear scan.
+ * The list benchmarks compare the former per-tool description lookups of list-tools
+ * with the summaries built once per discovery.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToolLookupBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int toolCount;
+
+    private ToolCallback[] callbacks;
+    private ToolRegistry registry;
+    private String toolName;
+    private String fullToolName;
+
+    @Setup
+    public void setup() {
+        callbacks = BenchmarkFixtures.toolCallbacks(toolCount);
+        registry = new ToolRegistry();
+        registry.refresh(callbacks);
+        toolName = "tool" + (toolCount - 1);
+        fullToolName = BenchmarkFixtures.TOOL_PREFIX + toolName;
+    }
+
+    @Benchmark
+    public ToolCallback legacyLinearScan() {
+        return LegacyImplementations.findTool(callbacks, toolName);
+    }
+
+    @Benchmark
+    public ToolRegistry.ToolEntry registryLookup() {
+        return registry.lookup(toolName);
+    }
+
+    @Benchmark
+    public List<String> legacyListTools() {
+        return LegacyImplementations.listToolDescriptions(callbacks);
+    }
+
+    @Benchmark
+    public List<ToolRegistry.ToolSummary> registryListTools() {
+        return registry.snapshot().summaries();
+    }
+
+    @Benchmark
+    public String legacyCleanToolName() {
+        return LegacyImplementations.cleanToolName(fullToolName);
+    }
+
+    @Benchmark
+    public String cleanToolName() {
+        return ToolRegistry.cleanToolName(fullToolName);
+    }
+}
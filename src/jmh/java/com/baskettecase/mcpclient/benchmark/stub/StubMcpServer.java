@@ -0,0 +1,174 @@
+package com.baskettecase.mcpclient.benchmark.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal STDIO MCP server for offline end-to-end benchmarks
+ *
+ * Speaks just enough newline-delimited JSON-RPC (initialize, ping, tools/list,
+ * tools/call) to be driven by the regular client. It deliberately avoids the
+ * MCP SDK server transport so the measured latency is the client's, and calls
+ * are answered concurrently so artificial latency does not serialize them.
+ *
+ * Configured with system properties:
+ *
+ * - stub.tools: number of tools named tool0..toolN-1 (default 10)
+ * - stub.response-bytes: size of each tool result text (default 256)
+ * - stub.latency-ms: delay before answering a tool call (default 0)
+ *
+ * Run it like any other server through spring.ai.mcp.client.stdio.connections,
+ * with command "java" and args "-cp", the benchmark classpath and this class name.
+ */
+public final class StubMcpServer {
+
+    private static final String PROTOCOL_VERSION = "2024-11-05";
+
+    private static final String INPUT_SCHEMA = "{\"type\":\"object\",\"properties\":{"
+        + "\"name\":{\"type\":\"string\",\"description\":\"Name to echo\"},"
+        + "\"count\":{\"type\":\"integer\",\"description\":\"Number to echo\"},"
+        + "\"loud\":{\"type\":\"boolean\",\"description\":\"Flag to echo\"}"
+        + "},\"required\":[\"name\"]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+    private final int toolCount;
+    private final long latencyMillis;
+    private final String payload;
+
+    private StubMcpServer(int toolCount, int responseBytes, long latencyMillis) {
+        this.toolCount = toolCount;
+        this.latencyMillis = latencyMillis;
+        this.payload = payload(responseBytes);
+    }
+
+    public static void main(String[] args) throws IOException {
+        StubMcpServer server = new StubMcpServer(
+            Integer.getInteger("stub.tools", 10),
+            Integer.getInteger("stub.response-bytes", 256),
+            Long.getLong("stub.latency-ms", 0L));
+        server.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+    }
+
+    private void serve(BufferedReader in) throws IOException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode request = objectMapper.readTree(line);
+                JsonNode id = request.get("id");
+                if (id == null) {
+                    // Notification (e.g. notifications/initialized), nothing to answer
+                    continue;
+                }
+                String method = request.path("method").asText();
+                if ("tools/call".equals(method)) {
+                    executor.execute(() -> respond(id, callTool(request.path("params"))));
+                } else {
+                    respond(id, handle(method));
+                }
+            }
+        }
+    }
+
+    private JsonNode handle(String method) {
+        ObjectNode result = objectMapper.createObjectNode();
+        switch (method) {
+            case "initialize" -> {
+                result.put("protocolVersion", PROTOCOL_VERSION);
+                result.putObject("capabilities").putObject("tools").put("listChanged", false);
+                result.putObject("serverInfo").put("name", "stub-mcp-server").put("version", "1.0.0");
+            }
+            case "tools/list" -> {
+                ArrayNode tools = result.putArray("tools");
+                JsonNode schema = readTree(INPUT_SCHEMA);
+                for (int i = 0; i < toolCount; i++) {
+                    tools.addObject()
+                        .put("name", "tool" + i)
+                        .put("description", "Stub tool " + i)
+                        .set("inputSchema", schema);
+                }
+            }
+            default -> {
+                // ping and anything else get an empty result
+            }
+        }
+        return result;
+    }
+
+    private JsonNode callTool(JsonNode params) {
+        ObjectNode result = objectMapper.createObjectNode();
+        String name = params.path("name").asText();
+        boolean known = name.startsWith("tool") && isToolIndex(name.substring(4));
+
+        if (known && latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        result.putArray("content").addObject()
+            .put("type", "text")
+            .put("text", known ? payload : "Unknown tool: " + name);
+        result.put("isError", !known);
+        return result;
+    }
+
+    private void respond(JsonNode id, JsonNode result) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", id);
+        response.set("result", result);
+        try {
+            String line = objectMapper.writeValueAsString(response);
+            synchronized (out) {
+                out.write(line);
+                out.newLine();
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isToolIndex(String index) {
+        try {
+            int i = Integer.parseInt(index);
+            return i >= 0 && i < toolCount;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String payload(int bytes) {
+        StringBuilder payload = new StringBuilder(bytes);
+        while (payload.length() < bytes) {
+            payload.append((char) ('a' + payload.length() % 26));
+        }
+        return payload.toString();
+    }
+}
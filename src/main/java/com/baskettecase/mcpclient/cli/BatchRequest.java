@@ -0,0 +1,128 @@
+package com.baskettecase.mcpclient.cli;
+
+import com.baskettecase.mcpclient.client.ToolInvocation;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed arguments of the batch-invoke command
+ *
+ * @param file JSONL file with one {"tool":...,"parameters":{...}} record per line
+ * @param parallelism Maximum number of calls in flight at once
+ * @param ordered Deliver results in file order instead of completion order
+ */
+record BatchRequest(Path file, int parallelism, boolean ordered) {
+
+    static final int DEFAULT_PARALLELISM = 8;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    /**
+     * Parse "&lt;file.jsonl&gt; [--parallel N] [--ordered]"
+     *
+     * @throws IllegalArgumentException if an option is missing its value or unknown
+     */
+    static BatchRequest parse(String args) {
+        String[] parts = args.trim().split("\\s+");
+        int parallelism = DEFAULT_PARALLELISM;
+        boolean ordered = false;
+
+        for (int i = 1; i < parts.length; i++) {
+            switch (parts[i]) {
+                case "--ordered" -> ordered = true;
+                case "--parallel" -> {
+                    if (i + 1 >= parts.length) {
+                        throw new IllegalArgumentException("--parallel requires a number");
+                    }
+                    try {
+                        parallelism = Integer.parseInt(parts[++i]);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid --parallel value: " + parts[i]);
+                    }
+                    if (parallelism < 1) {
+                        throw new IllegalArgumentException("--parallel must be at least 1");
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + parts[i]);
+            }
+        }
+
+        return new BatchRequest(Paths.get(parts[0]), parallelism, ordered);
+    }
+
+    /**
+     * Read the calls from the batch file, skipping blank lines and # comments
+     *
+     * @throws IllegalArgumentException if a record cannot be parsed
+     */
+    List<ToolInvocation> readInvocations() throws IOException {
+        List<ToolInvocation> invocations = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    invocations.add(parseInvocation(line));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid record on line " + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return invocations;
+    }
+
+    /**
+     * Parse one record of a batch file into a tool invocation
+     *
+     * Expected shape: {"tool":"name","parameters":{...}}
+     * "name" is accepted for the tool and "arguments" for the parameters.
+     *
+     * @throws IllegalArgumentException if the record is not valid
+     */
+    static ToolInvocation parseInvocation(String line) {
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(line);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid JSON format: " + e.getMessage(), e);
+        }
+
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Batch record must be a JSON object");
+        }
+
+        JsonNode toolNode = node.hasNonNull("tool") ? node.get("tool") : node.get("name");
+        if (toolNode == null || !toolNode.isTextual()) {
+            throw new IllegalArgumentException("Batch record is missing a \"tool\" name");
+        }
+
+        JsonNode paramsNode = node.hasNonNull("parameters") ? node.get("parameters") : node.get("arguments");
+        Map<String, Object> parameters = new HashMap<>();
+        if (paramsNode != null && !paramsNode.isNull()) {
+            if (!paramsNode.isObject()) {
+                throw new IllegalArgumentException("\"parameters\" must be a JSON object");
+            }
+            parameters = OBJECT_MAPPER.convertValue(paramsNode, MAP_TYPE);
+        }
+
+        return new ToolInvocation(toolNode.asText(), parameters);
+    }
+}
@@ -1,8 +1,17 @@
 package com.baskettecase.mcpclient.cli;
 
+import com.baskettecase.mcpclient.client.ConnectionState;
+import com.baskettecase.mcpclient.client.ServerReadinessService;
 import com.baskettecase.mcpclient.client.SpringAiMcpClientManager;
+import com.baskettecase.mcpclient.client.ToolCallMetrics;
+import com.baskettecase.mcpclient.client.ToolInvocation;
+import com.baskettecase.mcpclient.client.ToolRegistry;
+import com.baskettecase.mcpclient.client.ToolResultCache;
+import com.baskettecase.mcpclient.client.ToolResults;
+import com.baskettecase.mcpclient.client.ToolSchema;
 import com.baskettecase.mcpclient.config.YamlConfigService;
 import com.baskettecase.mcpclient.util.ParameterParser;
+import io.modelcontextprotocol.spec.McpSchema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
@@ -13,14 +22,29 @@ import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertySource;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Main CLI interface for the MCP Client
@@ -36,22 +60,51 @@ public class CliRunner implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(CliRunner.class);
     
+    static final List<CommandHelp> COMMANDS = List.of(
+        new CommandHelp("connect <name> stdio <jar-path>", "Connect to MCP server"),
+        new CommandHelp("connect <name> stdio <jar-path> default", "Connect and save as default"),
+        new CommandHelp("use <name>", "Switch the current server"),
+        new CommandHelp("disconnect [name]", "Disconnect current (or named) server"),
+        new CommandHelp("list-tools", "List available tools"),
+        new CommandHelp("refresh-tools [name]", "Re-list the tools of the current (or named) server"),
+        new CommandHelp("status", "Show connection status"),
+        new CommandHelp("describe-tool <tool-name>", "Show tool details"),
+        new CommandHelp("invoke-tool <tool-name> [params...] [> file]", "Execute tool"),
+        new CommandHelp("batch-invoke <file.jsonl> [--parallel N] [--ordered]", "Execute many tools concurrently"),
+        new CommandHelp("metrics [reset]", "Show (or clear) tool call latency metrics"),
+        new CommandHelp("cache [clear]", "Show (or clear) the tool result cache"),
+        new CommandHelp("show-default", "Show default server configuration"),
+        new CommandHelp("remove-default", "Remove default server configuration"),
+        new CommandHelp("generate-config", "Generate application.yml configuration"),
+        new CommandHelp("help", "Show this help"),
+        new CommandHelp("exit", "Exit application")
+    );
+    
     private final Scanner scanner = new Scanner(System.in);
     private final String prompt;
     private volatile boolean running = true;
+    private boolean scriptMode;
+    private boolean jsonOutput;
+    private boolean commandFailed;
     
     private final SpringAiMcpClientManager clientManager;
+    private final ServerReadinessService readinessService;
     private final ParameterParser parameterParser;
     private final YamlConfigService yamlConfigService;
     private final Environment environment;
+    private final boolean schemaCoercion;
+    private final JsonCommands jsonCommands;
 
-    public CliRunner(SpringAiMcpClientManager clientManager, ParameterParser parameterParser, 
-                    YamlConfigService yamlConfigService, Environment environment) {
+    public CliRunner(SpringAiMcpClientManager clientManager, ServerReadinessService readinessService,
+                    ParameterParser parameterParser, YamlConfigService yamlConfigService, Environment environment) {
         this.prompt = "mcp-client> ";
         this.clientManager = clientManager;
+        this.readinessService = readinessService;
         this.parameterParser = parameterParser;
         this.yamlConfigService = yamlConfigService;
         this.environment = environment;
+        this.schemaCoercion = environment.getProperty("mcp.client.parameters.schema-coercion", Boolean.class, true);
+        this.jsonCommands = new JsonCommands(clientManager, parameterParser, schemaCoercion);
         
         // Add shutdown hook for clean disconnect
         Runtime.getRuntime().addShutdownHook(new Thread(clientManager::shutdown));
@@ -59,59 +112,35 @@ public class CliRunner implements CommandLineRunner {
 
     @Override
     public void run(String... args) throws Exception {
+        String output = argumentValue(args, "--output");
+        if (output != null && !output.equals("json") && !output.equals("text")) {
+            throw new IllegalArgumentException("Unsupported --output format: " + output + " (expected json or text)");
+        }
+        jsonOutput = "json".equals(output);
+
+        // Only on request: a non-terminal stdin may still be an IDE console or a wrapper
+        String scriptFile = argumentValue(args, "--script");
+        if (scriptFile == null && Arrays.asList(args).contains("-")) {
+            scriptFile = "-";
+        }
+        if (scriptFile != null) {
+            runScript(scriptFile, Arrays.asList(args).contains("--fail-fast"));
+            return;
+        }
+
+        if (jsonOutput) {
+            autoConnect(true);
+            startInteractiveMode();
+            return;
+        }
+
         printWelcome();
         
         // Show profile and connection status
         String[] activeProfiles = environment.getActiveProfiles();
         if (activeProfiles.length > 0) {
             System.out.println("Active profile: " + String.join(", ", activeProfiles));
-            
-            // If a server profile is active, auto-connect to configured servers  
-            if (!activeProfiles[0].equals("no-server") && clientManager.isMcpEnabled()) {
-                System.out.println("Auto-connecting to configured servers...");
-                
-                // Get configured servers from the active profile
-                var configuredServers = getConfiguredServers();
-                
-                if (configuredServers.isEmpty()) {
-                    System.out.println("No servers configured in this profile");
-                } else {
-                    boolean anyConnected = false;
-                    
-                    for (var serverConfig : configuredServers.entrySet()) {
-                        String serverName = serverConfig.getKey();
-                        String jarPath = serverConfig.getValue();
-                        
-                        System.out.println("Connecting to: " + serverName);
-                        
-                        boolean connected = clientManager.connect(serverName, jarPath, false);
-                        if (connected) {
-                            // Wait a moment for connection to establish
-                            Thread.sleep(3000);
-                            
-                            try {
-                                List<String> tools = clientManager.listToolNames();
-                                if (tools.size() > 0) {
-                                    System.out.println("✓ " + serverName + " connected - " + tools.size() + " tools available");
-                                    anyConnected = true;
-                                } else {
-                                    System.out.println("⚠ " + serverName + " connected but no tools yet");
-                                }
-                            } catch (Exception e) {
-                                System.out.println("⚠ " + serverName + " connection established but tools not ready");
-                            }
-                        } else {
-                            System.out.println("✗ Failed to connect to " + serverName);
-                        }
-                    }
-                    
-                    if (anyConnected) {
-                        System.out.println("\nReady! Try: list-tools");
-                    } else {
-                        System.out.println("\nAuto-connection completed but servers may still be starting...");
-                    }
-                }
-            }
+            autoConnect(false);
         } else {
             System.out.println("Using default profile");
         }
@@ -136,21 +165,16 @@ public class CliRunner implements CommandLineRunner {
                     
                     // Show available tools with clean output
                     try {
-                        List<String> tools = clientManager.listToolNames();
+                        List<ToolRegistry.ToolSummary> tools = clientManager.listToolSummaries();
                         System.out.println("✓ Discovered " + tools.size() + " tools:");
-                        tools.forEach(toolName -> {
-                            // Get basic description without full schema
-                            String description = clientManager.getToolDescription(toolName);
-                            String shortDescription = extractShortDescription(description);
-                            System.out.println("  - " + toolName + ": " + shortDescription);
-                        });
+                        tools.forEach(tool -> System.out.println("  - " + tool.name() + ": " + tool.description()));
                         System.out.println("Use 'describe-tool <name>' for detailed parameter information.");
                     } catch (Exception e) {
                         System.out.println("⚠ Connected but failed to list tools: " + e.getMessage());
                     }
                     System.out.println();
                 } else {
-                    System.out.println("✗ Failed to connect to default server");
+                    fail("Failed to connect to default server");
                     System.out.println("  You can connect manually using: connect " + config.serverName() + " stdio " + config.jarPath());
                     System.out.println();
                 }
@@ -160,6 +184,162 @@ public class CliRunner implements CommandLineRunner {
         startInteractiveMode();
     }
 
+    /**
+     * Auto-connect to the servers configured in the active profile
+     *
+     * @param quiet Only report servers that did not become ready, on stderr
+     */
+    private void autoConnect(boolean quiet) {
+        String[] activeProfiles = environment.getActiveProfiles();
+        if (activeProfiles.length == 0 || activeProfiles[0].equals("no-server") || !clientManager.isMcpEnabled()) {
+            return;
+        }
+        if (!quiet) {
+            System.out.println("Auto-connecting to configured servers...");
+        }
+
+        // Get configured servers from the active profile
+        var configuredServers = getConfiguredServers();
+
+        if (configuredServers.isEmpty()) {
+            if (!quiet) {
+                System.out.println("No servers configured in this profile");
+            }
+            return;
+        }
+
+        boolean anyConnected = false;
+        if (!quiet) {
+            System.out.println("Connecting to: " + String.join(", ", configuredServers.keySet()));
+        }
+
+        for (var result : readinessService.connectAndAwaitReady(configuredServers)) {
+            String serverName = result.serverName();
+            String error = result.error() != null ? " (" + result.error() + ")" : "";
+            switch (result.status()) {
+                case READY -> {
+                    if (!quiet) {
+                        System.out.println("✓ " + serverName + " connected - " + result.toolCount()
+                            + " tools available (ready in " + result.elapsedMillis() + " ms)");
+                    }
+                    anyConnected = true;
+                }
+                case TIMED_OUT -> (quiet ? System.err : System.out).println("⚠ " + serverName
+                    + " connected but no tools after " + result.elapsedMillis() + " ms" + error);
+                case FAILED -> (quiet ? System.err : System.out).println("✗ Failed to connect to " + serverName + error);
+            }
+        }
+
+        if (quiet) {
+            return;
+        }
+        if (anyConnected) {
+            System.out.println("\nReady! Try: list-tools");
+        } else {
+            System.out.println("\nAuto-connection completed but servers may still be starting...");
+        }
+    }
+
+    /**
+     * Find an option value in the program arguments ({@code --name <value>} or {@code --name=<value>})
+     * Used for --script (a file, or - for stdin) and --output (text or json).
+     *
+     * @return the value, or null if the option was not given
+     */
+    private static String argumentValue(String[] args, String name) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith(name + "=")) {
+                return args[i].substring(name.length() + 1);
+            }
+            if (args[i].equals(name)) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException(name + " requires a value");
+                }
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Print a prompt for the next line of input
+     *
+     * With --output json, stdout carries only JSON documents, so prompts go to stderr.
+     */
+    private void printPrompt(String text) {
+        PrintStream out = jsonOutput ? System.err : System.out;
+        out.print(text);
+        out.flush();
+    }
+
+    /**
+     * Read one line of input, flushing pending output first
+     */
+    private String readLine() {
+        System.out.flush();
+        return scanner.nextLine().trim();
+    }
+
+    /**
+     * Run commands from a script file, or from stdin for "--script -" or "-"
+     *
+     * No banner, prompts or connection chatter is printed, and commands never
+     * prompt for input. Output goes through a 64 KB buffer, flushed after each
+     * command, and the process exits with the script status: 0 if every
+     * command succeeded, 1 if any failed and 2 for script errors.
+     */
+    private void runScript(String scriptFile, boolean failFast) {
+        scriptMode = true;
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 64 * 1024),
+            false, console.charset()));
+
+        int exitCode;
+        boolean fromStdin = scriptFile == null || "-".equals(scriptFile);
+        String source = fromStdin ? "stdin" : scriptFile;
+        try (BufferedReader reader = fromStdin
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptFile), StandardCharsets.UTF_8)) {
+            autoConnect(true);
+
+            var result = new CommandScript(source, this::executeScriptCommand, failFast).run(reader);
+            if (result.error() != null) {
+                System.err.println("✗ Script error: " + result.error());
+            }
+            logger.debug("Script {} ran {} commands, {} failed, exit code {}",
+                source, result.commands(), result.failures(), result.exitCode());
+            exitCode = result.exitCode();
+        } catch (IOException e) {
+            System.err.println("✗ Failed to read script " + source + ": "
+                + (e instanceof NoSuchFileException ? "file not found" : e.getMessage()));
+            exitCode = CommandScript.EXIT_SCRIPT_ERROR;
+        } finally {
+            System.out.flush();
+            System.setOut(console);
+        }
+
+        running = false;
+        clientManager.disconnect();
+        System.exit(exitCode);
+    }
+
+    /**
+     * Execute one script command
+     *
+     * @return true if the command succeeded
+     */
+    private boolean executeScriptCommand(String command) {
+        commandFailed = false;
+        try {
+            processCommand(command);
+        } catch (Exception e) {
+            System.err.println("✗ " + command + ": " + e.getMessage());
+            commandFailed = true;
+        }
+        System.out.flush();
+        return !commandFailed;
+    }
+
     /**
      * Check if running in no-server mode
      */
@@ -177,7 +357,7 @@ public class CliRunner implements CommandLineRunner {
      * Get configured servers from Spring configuration
      */
     private Map<String, String> getConfiguredServers() {
-        Map<String, String> servers = new HashMap<>();
+        Map<String, String> servers = new TreeMap<>();
         
         try {
             // Get all properties that match the MCP client connections pattern
@@ -235,17 +415,9 @@ public class CliRunner implements CommandLineRunner {
         System.out.println("Generic Model Context Protocol Client for testing and development");
         System.out.println();
         System.out.println("Available commands:");
-        System.out.println("  connect <name> stdio <jar-path>     - Connect to MCP server");
-        System.out.println("  connect <name> stdio <jar-path> default - Connect and save as default");
-        System.out.println("  list-tools                          - List available tools");
-        System.out.println("  status                              - Show connection status");
-        System.out.println("  describe-tool <tool-name>           - Show tool details");
-        System.out.println("  invoke-tool <tool-name> [params...] - Execute tool");
-        System.out.println("  show-default                        - Show default server configuration");
-        System.out.println("  remove-default                      - Remove default server configuration");
-        System.out.println("  generate-config                     - Generate application.yml configuration");
-        System.out.println("  help                                - Show this help");
-        System.out.println("  exit                                - Exit application");
+        for (CommandHelp help : COMMANDS) {
+            System.out.printf("  %-35s - %s%n", help.usage(), help.description());
+        }
         System.out.println();
         System.out.println("Parameter formats:");
         System.out.println("  Key-value pairs: key1=value1 key2=value2");
@@ -255,8 +427,8 @@ public class CliRunner implements CommandLineRunner {
 
     private void startInteractiveMode() {
         while (running) {
-            System.out.print(prompt);
-            String input = scanner.nextLine().trim();
+            printPrompt(prompt);
+            String input = readLine();
             
             if (input.isEmpty()) {
                 continue;
@@ -275,30 +447,41 @@ public class CliRunner implements CommandLineRunner {
         String command = parts[0].toLowerCase();
         String args = parts.length > 1 ? parts[1] : "";
 
+        if (jsonOutput && !command.equals("exit") && !command.equals("quit") && !command.equals("q")) {
+            commandFailed = !jsonCommands.execute(command, args);
+            return;
+        }
+
         switch (command) {
             case "connect" -> handleConnect(args);
+            case "use" -> handleUse(args);
+            case "disconnect" -> handleDisconnect(args);
             case "list-tools" -> handleListTools();
+            case "refresh-tools" -> handleRefreshTools(args);
             case "status" -> handleStatus();
             case "describe-tool" -> handleDescribeTool(args);
             case "invoke-tool" -> handleInvokeTool(args);
+            case "batch-invoke" -> handleBatchInvoke(args);
+            case "metrics" -> handleMetrics(args);
+            case "cache" -> handleCache(args);
             case "show-default" -> handleShowDefault();
             case "remove-default" -> handleRemoveDefault();
             case "generate-config" -> handleGenerateConfig();
             case "help" -> printWelcome();
             case "exit", "quit", "q" -> handleExit();
-            default -> System.out.println("Unknown command: " + command + ". Type 'help' for available commands.");
+            default -> fail("Unknown command: " + command + ". Type 'help' for available commands.");
         }
     }
 
     private void handleConnect(String args) {
         if (args.trim().isEmpty()) {
-            System.out.println("Usage: connect <name> stdio <jar-path> [default]");
+            usage("connect <name> stdio <jar-path> [default]");
             return;
         }
 
         String[] parts = args.split("\\s+");
         if (parts.length < 3 || !parts[1].equals("stdio")) {
-            System.out.println("Usage: connect <name> stdio <jar-path> [default]");
+            usage("connect <name> stdio <jar-path> [default]");
             System.out.println("Example: connect myserver stdio /path/to/server.jar");
             System.out.println("Example: connect myserver stdio /path/to/server.jar default");
             return;
@@ -317,72 +500,111 @@ public class CliRunner implements CommandLineRunner {
         boolean success = clientManager.connect(serverName, jarPath, saveDefault);
         
         if (success) {
-            if (clientManager.isConnected() && clientManager.listToolNames().size() > 0) {
-                // Already configured and working
-                System.out.println("✓ Connected to server: " + serverName);
-                try {
-                    List<String> tools = clientManager.listToolNames();
-                    System.out.println("✓ Discovered " + tools.size() + " tools");
-                } catch (Exception e) {
+            System.out.println("✓ Connected to server: " + serverName);
+            try {
+                List<String> tools = clientManager.listToolNames(serverName);
+                if (tools.isEmpty()) {
                     System.out.println("⚠ Connected but no tools available");
+                } else if (clientManager.getConnectionState(serverName) == ConnectionState.CONNECTING) {
+                    System.out.println("✓ Loaded " + tools.size() + " tools from the catalog cache (server starting)");
+                } else {
+                    System.out.println("✓ Discovered " + tools.size() + " tools");
                 }
-            } else {
-                // Need configuration
-                System.out.println("✓ Server registered: " + serverName);
-                if (saveDefault) {
-                    System.out.println("✓ Saved as default connection");
-                }
-                System.out.println();
-                System.out.println("Next steps:");
-                System.out.println("  1. Run: generate-config");
-                System.out.println("  2. Choose option 1 to auto-configure and restart");
-                System.out.println("  3. Server will be available after restart");
+            } catch (Exception e) {
+                System.out.println("⚠ Connected but no tools available");
             }
             
             if (saveDefault) {
                 System.out.println("Config saved to: " + clientManager.getDefaultServerConfigPath());
             }
         } else {
-            System.out.println("✗ Failed to connect to server: " + serverName);
+            fail("Failed to connect to server: " + serverName);
             System.out.println("  Check that the JAR path is correct and the server is compatible");
         }
     }
 
+    private void handleUse(String args) {
+        String serverName = args.trim();
+        if (serverName.isEmpty()) {
+            usage("use <name>");
+            return;
+        }
+
+        if (clientManager.useServer(serverName)) {
+            System.out.println("✓ Current server: " + serverName);
+        } else {
+            fail("Not connected to server: " + serverName);
+            System.out.println("  Use 'status' to see connected servers");
+        }
+    }
+
+    private void handleDisconnect(String args) {
+        String serverName = args.trim().isEmpty() ? clientManager.getCurrentServerName() : args.trim();
+        if (serverName == null) {
+            fail("Not connected to any MCP server");
+            return;
+        }
+
+        if (clientManager.disconnect(serverName)) {
+            System.out.println("✓ Disconnected from server: " + serverName);
+            if (clientManager.isConnected()) {
+                System.out.println("Current server: " + clientManager.getCurrentServerName());
+            }
+        } else {
+            fail("Not connected to server: " + serverName);
+        }
+    }
+
     private void handleListTools() {
         if (!clientManager.isConnected()) {
-            System.out.println("✗ Not connected to any MCP server");
+            fail("Not connected to any MCP server");
             System.out.println("  Use 'connect <name> stdio <jar-path>' to connect first");
             return;
         }
 
         try {
-            List<String> tools = clientManager.listToolNames();
+            List<ToolRegistry.ToolSummary> tools = clientManager.listToolSummaries();
             
             if (tools.isEmpty()) {
                 System.out.println("No tools available from server: " + clientManager.getCurrentServerName());
                 return;
             }
 
-            System.out.println("Available tools from server: " + clientManager.getCurrentServerName());
-            System.out.println();
-            
-            for (int i = 0; i < tools.size(); i++) {
-                String toolName = tools.get(i);
-                String description = clientManager.getToolDescription(toolName);
-                String shortDescription = extractShortDescription(description);
-                
-                System.out.printf("%d. %s%n", i + 1, toolName);
-                System.out.printf("   Description: %s%n", shortDescription);
-                System.out.println("   Use 'describe-tool " + toolName + "' for full parameter details");
-                System.out.println();
+            // One buffered write instead of a flush per line on large servers
+            StringBuilder listing = new StringBuilder(tools.size() * 128);
+            listing.append("Available tools from server: ").append(clientManager.getCurrentServerName()).append("\n\n");
+            int index = 1;
+            for (ToolRegistry.ToolSummary tool : tools) {
+                listing.append(index++).append(". ").append(tool.name()).append('\n')
+                    .append("   Description: ").append(tool.description()).append('\n')
+                    .append("   Parameters: ").append(tool.parameterCount()).append('\n')
+                    .append("   Use 'describe-tool ").append(tool.name()).append("' for full parameter details\n\n");
             }
+            System.out.print(listing);
             
         } catch (Exception e) {
-            System.out.println("✗ Failed to list tools: " + e.getMessage());
+            fail("Failed to list tools: " + e.getMessage());
             logger.error("Error listing tools", e);
         }
     }
 
+    private void handleRefreshTools(String args) {
+        String serverName = args.trim().isEmpty() ? clientManager.getCurrentServerName() : args.trim();
+        if (serverName == null) {
+            fail("Not connected to any MCP server");
+            return;
+        }
+
+        try {
+            ToolRegistry.Snapshot catalog = clientManager.refreshTools(serverName);
+            System.out.println("✓ Refreshed tools of server " + serverName + ": " + catalog.entries().size()
+                + " tools (catalog version " + catalog.version() + ")");
+        } catch (Exception e) {
+            fail("Failed to refresh tools: " + e.getMessage());
+            logger.error("Error refreshing tools", e);
+        }
+    }
+
     private void handleStatus() {
         System.out.println("=== MCP Client Status ===");
         System.out.println();
@@ -392,12 +614,12 @@ public class CliRunner implements CommandLineRunner {
 
     private void handleDescribeTool(String args) {
         if (args.trim().isEmpty()) {
-            System.out.println("Usage: describe-tool <tool-name>");
+            usage("describe-tool <tool-name>");
             return;
         }
 
         if (!clientManager.isConnected()) {
-            System.out.println("✗ Not connected to any MCP server");
+            fail("Not connected to any MCP server");
             System.out.println("  Use 'connect <name> stdio <jar-path>' to connect first");
             return;
         }
@@ -408,7 +630,7 @@ public class CliRunner implements CommandLineRunner {
             String description = clientManager.getToolDescription(toolName);
             
             if ("Unknown tool".equals(description)) {
-                System.out.println("✗ Tool not found: " + toolName);
+                fail("Tool not found: " + toolName);
                 System.out.println("  Use 'list-tools' to see available tools");
                 return;
             }
@@ -418,8 +640,19 @@ public class CliRunner implements CommandLineRunner {
             System.out.println("Name: " + toolName);
             System.out.println("Description: " + description);
             System.out.println();
-            System.out.println("Parameters: Basic implementation - parameter details will be available");
-            System.out.println("           when full MCP integration is complete");
+            ToolSchema schema = clientManager.getToolSchema(toolName).orElse(ToolSchema.EMPTY);
+            if (schema.isEmpty()) {
+                System.out.println("Parameters: none");
+            } else {
+                System.out.println("Parameters:");
+                for (ToolSchema.Parameter parameter : schema.parameters()) {
+                    System.out.printf("  - %s (%s, %s): %s%n", parameter.name(), parameter.type().jsonName(),
+                        parameter.required() ? "required" : "optional", parameter.description());
+                    if (!parameter.allowedValues().isEmpty()) {
+                        System.out.println("      one of: " + parameter.allowedValues());
+                    }
+                }
+            }
             System.out.println();
             System.out.println("Usage examples:");
             System.out.println("  invoke-tool " + toolName + " param1=value1 param2=value2");
@@ -427,247 +660,312 @@ public class CliRunner implements CommandLineRunner {
             System.out.println();
             
         } catch (Exception e) {
-            System.out.println("✗ Failed to describe tool: " + e.getMessage());
+            fail("Failed to describe tool: " + e.getMessage());
             logger.error("Error describing tool: " + toolName, e);
         }
     }
 
     private void handleInvokeTool(String args) {
         if (args.trim().isEmpty()) {
-            System.out.println("Usage: invoke-tool <tool-name> [parameters...]");
+            usage("invoke-tool <tool-name> [parameters...]");
             System.out.println("Parameters can be:");
             System.out.println("  Key-value pairs: invoke-tool mytool param1=value1 param2=value2");
             System.out.println("  JSON format: invoke-tool mytool '{\"param1\":\"value1\",\"param2\":\"value2\"}'");
             System.out.println("  Interactive: invoke-tool mytool (prompts for parameters)");
+            System.out.println("End with '> file' (or '>> file' to append) to write the result to a file");
             return;
         }
 
         if (!clientManager.isConnected()) {
-            System.out.println("✗ Not connected to any MCP server");
+            fail("Not connected to any MCP server");
             System.out.println("  Use 'connect <name> stdio <jar-path>' to connect first");
             return;
         }
 
-        String[] parts = args.split("\\s+", 2);
+        OutputRedirect redirect = OutputRedirect.parse(args);
+        String[] parts = redirect.args().split("\\s+", 2);
         String toolName = parts[0];
         String[] paramArgs = parts.length > 1 ? parts[1].split("\\s+") : new String[0];
 
         try {
-            // Check if tool exists
-            String toolDescription = clientManager.getToolDescription(toolName);
-            if (toolDescription.startsWith("Tool not found") || toolDescription.startsWith("Unknown tool")) {
-                System.out.println("✗ Tool not found: " + toolName);
+            // Check if tool exists (schema is compiled once at discovery)
+            Optional<ToolSchema> toolSchema = clientManager.getToolSchema(toolName);
+            if (toolSchema.isEmpty()) {
+                fail("Tool not found: " + toolName);
                 System.out.println("  Use 'list-tools' to see available tools");
                 return;
             }
+            ToolSchema schema = toolSchema.get();
 
             Map<String, Object> parameters;
             
             // If no parameters provided, check if tool has parameters and prompt interactively
-            if (paramArgs.length == 0) {
-                parameters = promptForParameters(toolName, toolDescription);
+            // (scripts never prompt; missing required parameters fail validation instead)
+            if (paramArgs.length == 0 && scriptMode) {
+                parameters = new HashMap<>();
+            } else if (paramArgs.length == 0) {
+                parameters = promptForParameters(toolName, schema);
                 if (parameters == null) {
                     return; // User cancelled or error occurred
                 }
             } else {
                 // Parse provided parameters
                 try {
-                    parameters = parameterParser.parseParameters(paramArgs);
+                    parameters = schemaCoercion
+                        ? parameterParser.parseParameters(paramArgs, schema)
+                        : parameterParser.parseParameters(paramArgs);
                 } catch (IllegalArgumentException e) {
-                    System.out.println("✗ Invalid parameters: " + e.getMessage());
+                    fail("Invalid parameters: " + e.getMessage());
                     return;
                 }
             }
 
+            // Pre-flight validation against the cached schema
+            List<String> validationErrors = schema.validate(parameters);
+            if (!validationErrors.isEmpty()) {
+                fail("Invalid parameters for " + toolName + ":");
+                validationErrors.forEach(error -> System.out.println("  - " + error));
+                System.out.println("  Use 'describe-tool " + toolName + "' for parameter details");
+                return;
+            }
+
             System.out.println("Executing tool: " + toolName);
             if (!parameters.isEmpty()) {
                 System.out.println("Parameters: " + parameterParser.formatParameters(parameters));
             }
             System.out.println();
 
-            // Execute the tool
-            String result = clientManager.executeTool(toolName, parameters);
+            // Execute the tool; the result is streamed block by block rather than built into one string
+            McpSchema.CallToolResult result = clientManager.callTool(toolName, parameters);
 
-            System.out.println("=== Tool Result ===");
-            System.out.println(result);
-            System.out.println();
+            if (ToolResults.isError(result)) {
+                System.out.println("=== Tool Result ===");
+                System.out.println(ToolResults.text(result));
+                System.out.println();
+                commandFailed = true;
+            } else if (redirect.isPresent()) {
+                long bytes = redirect.write(result);
+                System.out.println("✓ Wrote " + bytes + " bytes to " + redirect.file());
+            } else {
+                System.out.println("=== Tool Result ===");
+                System.out.flush();
+                ToolResults.write(result, Channels.newChannel(System.out), System.out.charset());
+                System.out.println();
+                System.out.println();
+            }
 
         } catch (Exception e) {
-            System.out.println("✗ Failed to execute tool: " + e.getMessage());
+            fail("Failed to execute tool: " + e.getMessage());
             logger.error("Error executing tool: " + toolName, e);
         }
     }
 
-    /**
-     * Prompt user for tool parameters interactively based on the tool's schema
-     */
-    private Map<String, Object> promptForParameters(String toolName, String toolDescription) {
+    private void handleBatchInvoke(String args) {
+        if (args.trim().isEmpty()) {
+            usage("batch-invoke <file.jsonl> [--parallel N] [--ordered]");
+            System.out.println("Each line of the file is one call:");
+            System.out.println("  {\"tool\":\"mytool\",\"parameters\":{\"param1\":\"value1\"}}");
+            System.out.println("  --parallel N  Maximum concurrent calls (default " + BatchRequest.DEFAULT_PARALLELISM + ")");
+            System.out.println("  --ordered     Print results in file order instead of completion order");
+            return;
+        }
+
+        if (!clientManager.isConnected()) {
+            fail("Not connected to any MCP server");
+            System.out.println("  Use 'connect <name> stdio <jar-path>' to connect first");
+            return;
+        }
+
+        BatchRequest request;
+        List<ToolInvocation> invocations;
         try {
-            // Parse the tool description to extract parameter information
-            Map<String, ParameterInfo> parameterInfos = parseParameterSchema(toolDescription);
-            
-            if (parameterInfos.isEmpty()) {
-                System.out.println("Tool '" + toolName + "' has no parameters.");
-                return new HashMap<>();
-            }
+            request = BatchRequest.parse(args);
+            invocations = request.readInvocations();
+        } catch (IllegalArgumentException e) {
+            fail(e.getMessage());
+            return;
+        } catch (IOException e) {
+            fail("Failed to read batch file: " + e.getMessage());
+            return;
+        }
+        Path batchFile = request.file();
+        int parallelism = request.parallelism();
+        boolean ordered = request.ordered();
 
-            System.out.println("=== Interactive Parameter Collection ===");
-            System.out.println("Tool: " + toolName);
-            System.out.println();
+        if (invocations.isEmpty()) {
+            System.out.println("No calls found in " + batchFile);
+            return;
+        }
 
-            Map<String, Object> parameters = new HashMap<>();
-            
-            for (Map.Entry<String, ParameterInfo> entry : parameterInfos.entrySet()) {
-                String paramName = entry.getKey();
-                ParameterInfo paramInfo = entry.getValue();
-                
-                String prompt = String.format("%s%s: %s", 
-                    paramName,
-                    paramInfo.required ? " (required)" : " (optional)",
-                    paramInfo.description
-                );
-                
-                System.out.print(prompt + "\n> ");
-                String input = scanner.nextLine().trim();
-                
-                // Handle required parameters
-                if (paramInfo.required && input.isEmpty()) {
-                    System.out.println("✗ Required parameter cannot be empty. Operation cancelled.");
-                    return null;
-                }
-                
-                // Add parameter if not empty
-                if (!input.isEmpty()) {
-                    parameters.put(paramName, input);
-                }
-            }
-            
+        System.out.printf("Executing %d calls (parallelism %d, %s order)%n", invocations.size(), parallelism,
+            ordered ? "submission" : "completion");
+        System.out.println();
+
+        try {
+            var summary = clientManager.executeBatch(invocations, parallelism, ordered, result -> {
+                System.out.printf("[%d] %s %s (%.1f ms)%n", result.index() + 1, result.success() ? "✓" : "✗",
+                    result.toolName(), result.latencyMillis());
+                System.out.println(result.result());
+                System.out.println();
+            });
+
+            System.out.println("=== Batch Summary ===");
+            System.out.printf("Calls: %d (%d succeeded, %d failed)%n", summary.total(), summary.succeeded(), summary.failed());
+            System.out.printf("Wall time: %.1f ms%n", summary.wallNanos() / 1_000_000.0);
+            System.out.printf("Throughput: %.1f calls/s%n", summary.throughputPerSecond());
+            System.out.printf("Latency: min %.1f ms, mean %.1f ms, p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                summary.minNanos() / 1_000_000.0, summary.meanNanos() / 1_000_000.0, summary.p50Nanos() / 1_000_000.0,
+                summary.p99Nanos() / 1_000_000.0, summary.maxNanos() / 1_000_000.0);
             System.out.println();
-            return parameters;
-            
+            if (summary.failed() > 0) {
+                commandFailed = true;
+            }
+
         } catch (Exception e) {
-            System.out.println("✗ Failed to parse parameter schema: " + e.getMessage());
-            logger.error("Error parsing parameter schema for tool: " + toolName, e);
-            return null;
+            fail("Batch execution failed: " + e.getMessage());
+            logger.error("Error executing batch from: " + batchFile, e);
         }
     }
 
-    /**
-     * Parse the JSON schema from tool description to extract parameter information
-     */
-    private Map<String, ParameterInfo> parseParameterSchema(String toolDescription) {
-        Map<String, ParameterInfo> parameters = new LinkedHashMap<>();
-        
-        try {
-            // Extract JSON schema from the tool description
-            int schemaStart = toolDescription.indexOf("Input Schema: ");
-            if (schemaStart == -1) {
-                return parameters; // No schema found
+    private void handleMetrics(String args) {
+        ToolCallMetrics metrics = clientManager.getToolCallMetrics();
+
+        switch (args.trim()) {
+            case "" -> {
             }
-            
-            String schemaJson = toolDescription.substring(schemaStart + 14).trim();
-            logger.debug("Parsing schema JSON: {}", schemaJson);
-            
-            // Better JSON parsing - look for complete parameter objects
-            if (schemaJson.contains("\"properties\"")) {
-                // Find the properties section
-                int propertiesStart = schemaJson.indexOf("\"properties\":{") + 14;
-                int propertiesEnd = findMatchingBrace(schemaJson, propertiesStart - 1);
-                
-                if (propertiesStart > 13 && propertiesEnd > propertiesStart) {
-                    String propertiesSection = schemaJson.substring(propertiesStart, propertiesEnd);
-                    logger.debug("Properties section: {}", propertiesSection);
-                    
-                    // Parse each parameter
-                    String[] paramParts = propertiesSection.split("(?=\"[^\"]+\":\\{)");
-                    
-                    for (String paramPart : paramParts) {
-                        if (paramPart.trim().isEmpty()) continue;
-                        
-                        // Extract parameter name
-                        int nameStart = paramPart.indexOf("\"") + 1;
-                        int nameEnd = paramPart.indexOf("\"", nameStart);
-                        if (nameStart <= 0 || nameEnd <= nameStart) continue;
-                        
-                        String paramName = paramPart.substring(nameStart, nameEnd);
-                        
-                        // Extract description
-                        String description = "No description available";
-                        int descStart = paramPart.indexOf("\"description\":\"");
-                        if (descStart >= 0) {
-                            descStart += 15;
-                            int descEnd = paramPart.indexOf("\"", descStart);
-                            if (descEnd > descStart) {
-                                description = paramPart.substring(descStart, descEnd);
-                            }
-                        }
-                        
-                        // Check if required
-                        boolean isRequired = schemaJson.contains("\"required\":[") && 
-                                           schemaJson.contains("\"" + paramName + "\"");
-                        
-                        parameters.put(paramName, new ParameterInfo(description, isRequired));
-                        logger.debug("Found parameter: {} (required: {}) - {}", paramName, isRequired, description);
-                    }
-                }
+            case "reset" -> {
+                metrics.reset();
+                System.out.println("✓ Tool call metrics cleared");
+                return;
+            }
+            default -> {
+                usage("metrics [reset]");
+                return;
             }
-            
-        } catch (Exception e) {
-            logger.debug("Error parsing schema: {}", e.getMessage());
         }
-        
-        return parameters;
-    }
 
-    /**
-     * Find the matching closing brace for a JSON object
-     */
-    private int findMatchingBrace(String json, int openBraceIndex) {
-        int braceCount = 1;
-        int index = openBraceIndex + 1;
-        
-        while (index < json.length() && braceCount > 0) {
-            char c = json.charAt(index);
-            if (c == '{') {
-                braceCount++;
-            } else if (c == '}') {
-                braceCount--;
-            }
-            index++;
+        List<ToolCallMetrics.CallStats> toolStats = metrics.toolStats();
+        if (toolStats.isEmpty()) {
+            System.out.println("No tool calls recorded yet");
+            return;
         }
-        
-        return braceCount == 0 ? index - 1 : -1;
+
+        System.out.println("=== Tool Call Metrics ===");
+        System.out.println();
+        System.out.println("By server:");
+        printMetricsHeader("Server");
+        for (ToolCallMetrics.CallStats stats : metrics.serverStats()) {
+            printMetricsRow(stats.serverName(), stats);
+        }
+        System.out.println();
+        System.out.println("By tool (most total time first):");
+        printMetricsHeader("Tool");
+        for (ToolCallMetrics.CallStats stats : toolStats) {
+            printMetricsRow(stats.serverName() + "/" + stats.toolName(), stats);
+        }
+        System.out.println();
+        var coalescing = clientManager.getCallCoalescer().stats();
+        if (coalescing.enabled()) {
+            System.out.printf("Coalesced calls: %d joined an in-flight call, %d sent to servers%n",
+                coalescing.coalesced(), coalescing.executed());
+        }
+        System.out.println("Latencies in ms. Also published to Micrometer as 'mcp.client.tool.calls' and 'mcp.client.tool.in-flight'.");
+        System.out.println();
     }
 
-    /**
-     * Extract just the description from the full tool description, without the schema
-     */
-    private String extractShortDescription(String fullDescription) {
-        try {
-            // Extract the description line from the tool description
-            String[] lines = fullDescription.split("\n");
-            for (String line : lines) {
-                if (line.startsWith("Description: ")) {
-                    return line.substring(13).trim();
-                }
+    private void handleCache(String args) {
+        ToolResultCache cache = clientManager.getResultCache();
+
+        switch (args.trim()) {
+            case "" -> {
+            }
+            case "clear" -> {
+                cache.clear();
+                System.out.println("✓ Tool result cache cleared");
+                return;
+            }
+            default -> {
+                usage("cache [clear]");
+                return;
             }
-            return "No description available";
-        } catch (Exception e) {
-            return "No description available";
         }
+
+        ToolResultCache.CacheStats stats = cache.stats();
+        if (!stats.enabled()) {
+            System.out.println("Tool result cache is disabled");
+            System.out.println("  Set mcp.client.cache.enabled=true to cache results of idempotent tools");
+            return;
+        }
+
+        System.out.println("=== Tool Result Cache ===");
+        System.out.printf("Entries: %d (%.1f of %.1f KB)%n", stats.entries(),
+            stats.sizeInBytes() / 1024.0, stats.maxBytes() / 1024.0);
+        System.out.printf("Hits: %d, misses: %d (hit rate %.1f%%)%n", stats.hits(), stats.misses(), stats.hitRate() * 100);
+        System.out.printf("Evictions: %d, expirations: %d%n", stats.evictions(), stats.expirations());
+        System.out.println();
+    }
+
+    private void printMetricsHeader(String label) {
+        System.out.printf("  %-32s %8s %7s %9s %9s %9s %9s %9s %10s%n",
+            label, "calls", "errors", "in-flight", "p50", "p90", "p99", "max", "total");
+    }
+
+    private void printMetricsRow(String label, ToolCallMetrics.CallStats stats) {
+        System.out.printf("  %-32s %8d %7d %9d %9.2f %9.2f %9.2f %9.2f %10.1f%n",
+            label, stats.calls(), stats.errors(), stats.inFlight(),
+            stats.p50Nanos() / 1_000_000.0, stats.p90Nanos() / 1_000_000.0, stats.p99Nanos() / 1_000_000.0,
+            stats.maxNanos() / 1_000_000.0, stats.totalNanos() / 1_000_000.0);
     }
 
     /**
-     * Parameter information holder
+     * Prompt user for tool parameters interactively based on the tool's schema
      */
-    private static class ParameterInfo {
-        final String description;
-        final boolean required;
+    private Map<String, Object> promptForParameters(String toolName, ToolSchema schema) {
+        if (schema.isEmpty()) {
+            System.out.println("Tool '" + toolName + "' has no parameters.");
+            return new HashMap<>();
+        }
+
+        System.out.println("=== Interactive Parameter Collection ===");
+        System.out.println("Tool: " + toolName);
+        System.out.println();
+
+        Map<String, Object> parameters = new HashMap<>();
         
-        ParameterInfo(String description, boolean required) {
-            this.description = description;
-            this.required = required;
+        for (ToolSchema.Parameter paramInfo : schema.parameters()) {
+            String prompt = String.format("%s (%s, %s): %s", 
+                paramInfo.name(),
+                paramInfo.type().jsonName(),
+                paramInfo.required() ? "required" : "optional",
+                paramInfo.description()
+            );
+            
+            printPrompt(prompt + "\n> ");
+            String input = readLine();
+            
+            // Handle required parameters
+            if (paramInfo.required() && input.isEmpty()) {
+                fail("Required parameter cannot be empty. Operation cancelled.");
+                return null;
+            }
+            
+            // Add parameter if not empty, typed according to the schema
+            if (!input.isEmpty()) {
+                if (schemaCoercion) {
+                    try {
+                        parameters.put(paramInfo.name(), parameterParser.coerceValue(input, paramInfo));
+                    } catch (IllegalArgumentException e) {
+                        fail(e.getMessage() + ". Operation cancelled.");
+                        return null;
+                    }
+                } else {
+                    parameters.put(paramInfo.name(), input);
+                }
+            }
         }
+        
+        System.out.println();
+        return parameters;
     }
 
     private void handleShowDefault() {
@@ -685,7 +983,7 @@ public class CliRunner implements CommandLineRunner {
                 System.out.println("To connect: connect " + config.serverName() + " stdio " + config.jarPath());
                 System.out.println("To remove: remove-default");
             } else {
-                System.out.println("✗ Failed to load default server configuration");
+                fail("Failed to load default server configuration");
             }
         } else {
             System.out.println("No default server configuration found");
@@ -708,10 +1006,10 @@ public class CliRunner implements CommandLineRunner {
                 if (removed) {
                     System.out.println("✓ Default server configuration removed successfully");
                 } else {
-                    System.out.println("✗ Failed to remove default server configuration");
+                    fail("Failed to remove default server configuration");
                 }
             } else {
-                System.out.println("✗ Failed to load default server configuration for removal");
+                fail("Failed to load default server configuration for removal");
             }
         } else {
             System.out.println("No default server configuration to remove");
@@ -732,13 +1030,19 @@ public class CliRunner implements CommandLineRunner {
                 System.out.println("  JAR: " + config.jarPath());
                 System.out.println();
                 
-                // Generate configuration and provide restart instructions
+                if (scriptMode) {
+                    generateConfigForServer(config.serverName(), config.jarPath());
+                    System.out.println();
+                    return;
+                }
+
+                // Offer to persist the configuration or just print it
                 System.out.println("Choose an option:");
                 System.out.println("  1. Add to application.yml (recommended)");
                 System.out.println("  2. Show YAML configuration only");
-                System.out.print("Enter choice (1 or 2): ");
+                printPrompt("Enter choice (1 or 2): ");
                 
-                String choice = scanner.nextLine().trim();
+                String choice = readLine();
                 System.out.println();
                 
                 if ("1".equals(choice)) {
@@ -747,7 +1051,7 @@ public class CliRunner implements CommandLineRunner {
                     generateConfigForServer(config.serverName(), config.jarPath());
                 }
             } else {
-                System.out.println("✗ Failed to load default server configuration");
+                fail("Failed to load default server configuration");
             }
         } else {
             System.out.println("No default server found. Connect to a server first with --save-default flag.");
@@ -759,25 +1063,32 @@ public class CliRunner implements CommandLineRunner {
     private void generateConfigForServer(String serverName, String jarPath) {
         System.out.println("Add this configuration to your src/main/resources/application.yml:");
         System.out.println();
-        System.out.println("spring:");
-        System.out.println("  ai:");
-        System.out.println("    mcp:");
-        System.out.println("      client:");
-        System.out.println("        enabled: true");
-        System.out.println("        type: SYNC");
-        System.out.println("        stdio:");
-        System.out.println("          connections:");
-        System.out.println("            " + serverName + ":");
-        System.out.println("              command: java");
-        System.out.println("              args:");
-        System.out.println("                - -Dlogging.level.root=OFF");
-        System.out.println("                - -Dspring.main.banner-mode=off");
-        System.out.println("                - -Dspring.main.log-startup-info=false");
-        System.out.println("                - -jar");
-        System.out.println("                - " + jarPath);
+        System.out.print(serverConfigYaml(serverName, jarPath));
         System.out.println();
-        System.out.println("⚠ Important: After adding this configuration, restart the application");
-        System.out.println("to establish the STDIO connection and discover tools.");
+        System.out.println("Configured servers are connected automatically at startup.");
+        System.out.println("To use the server now, run: connect " + serverName + " stdio " + jarPath);
+    }
+
+    /**
+     * Spring AI STDIO connection configuration for a server, as application.yml text
+     */
+    static String serverConfigYaml(String serverName, String jarPath) {
+        return "spring:\n"
+            + "  ai:\n"
+            + "    mcp:\n"
+            + "      client:\n"
+            + "        enabled: true\n"
+            + "        type: SYNC\n"
+            + "        stdio:\n"
+            + "          connections:\n"
+            + "            " + serverName + ":\n"
+            + "              command: java\n"
+            + "              args:\n"
+            + "                - -Dlogging.level.root=OFF\n"
+            + "                - -Dspring.main.banner-mode=off\n"
+            + "                - -Dspring.main.log-startup-info=false\n"
+            + "                - -jar\n"
+            + "                - " + jarPath + "\n";
     }
 
     private void handleAddToConfig(String serverName, String jarPath) {
@@ -795,30 +1106,57 @@ public class CliRunner implements CommandLineRunner {
             if (success) {
                 System.out.println("✓ Successfully added server '" + serverName + "' to application.yml");
             } else {
-                System.out.println("✗ Failed to update application.yml");
-                System.out.println("Please manually add the configuration and restart.");
+                fail("Failed to update application.yml");
+                System.out.println("Please add the configuration manually.");
                 return;
             }
         }
         
-        System.out.println("Next steps:");
-        System.out.println("  1. Exit this application (type 'exit')");
-        System.out.println("  2. Run: ./mcp-client.sh");
-        System.out.println("  3. Server will be available automatically");
+        System.out.println("The server will be connected automatically on the next start.");
+        if (clientManager.getConnection(serverName).isEmpty()) {
+            System.out.println("To use it now, run: connect " + serverName + " stdio " + jarPath);
+        }
         System.out.println();
     }
 
 
+    /**
+     * Report a failed command
+     */
+    private void fail(String message) {
+        commandFailed = true;
+        System.out.println("✗ " + message);
+    }
+
+    /**
+     * Report a malformed command
+     */
+    private void usage(String message) {
+        commandFailed = true;
+        System.out.println("Usage: " + message);
+    }
+
     private void handleExit() {
-        System.out.println("Shutting down MCP client...");
+        if (!jsonOutput) {
+            System.out.println("Shutting down MCP client...");
+        }
         
         if (clientManager.isConnected()) {
-            System.out.println("Disconnecting from server: " + clientManager.getCurrentServerName());
+            if (!jsonOutput) {
+                System.out.println("Disconnecting from server: " + clientManager.getCurrentServerName());
+            }
             clientManager.disconnect();
         }
         
         running = false;
-        System.out.println("Goodbye!");
+        if (!jsonOutput) {
+            System.out.println("Goodbye!");
+        }
         System.exit(0);
     }
-}
\ No newline at end of file
+
+    /**
+     * Usage line and summary of a CLI command, as shown by 'help'
+     */
+    record CommandHelp(String usage, String description) {}
+}
@@ -0,0 +1,271 @@
+package com.baskettecase.mcpclient.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs CLI command scripts
+ *
+ * Scripts contain one CLI command per line, plus a few directives:
+ * <pre>
+ * # comment
+ * set NAME=value                 define a variable, used as ${NAME}
+ * repeat N [as VAR] ... end      run the body N times, VAR counts from 1
+ * for VAR in a b c ... end       run the body once per value
+ * exit [code]                    stop with the given (or current) status
+ * </pre>
+ * Variables that are not set in the script fall back to environment variables.
+ * Lines are executed as they are read, so a script piped into stdin starts
+ * running before the pipe is closed; only loop bodies are buffered until
+ * their {@code end}.
+ */
+final class CommandScript {
+
+    /** All commands succeeded */
+    static final int EXIT_OK = 0;
+    /** At least one command failed */
+    static final int EXIT_COMMAND_FAILED = 1;
+    /** The script itself is invalid (syntax, undefined variable, bad count) */
+    static final int EXIT_SCRIPT_ERROR = 2;
+
+    private static final Pattern VARIABLE = Pattern.compile("\\$\\{([A-Za-z_][A-Za-z0-9_]*)}");
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final String source;
+    private final Predicate<String> executor;
+    private final boolean failFast;
+
+    private final Map<String, String> variables = new HashMap<>();
+    private long commands;
+    private long failures;
+    private Integer exitCode;
+
+    /**
+     * @param source Script name used in error messages
+     * @param executor Runs one expanded command line and reports whether it succeeded
+     * @param failFast Stop at the first failed command
+     */
+    CommandScript(String source, Predicate<String> executor, boolean failFast) {
+        this.source = source;
+        this.executor = executor;
+        this.failFast = failFast;
+    }
+
+    /**
+     * Read and run the script until the end of input or an exit
+     *
+     * @return outcome with the exit status
+     */
+    Result run(BufferedReader reader) throws IOException {
+        Deque<Block> open = new ArrayDeque<>();
+        int lineNumber = 0;
+        try {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                Statement statement = parseLine(++lineNumber, text.strip(), open);
+                if (statement != null) {
+                    execute(List.of(statement));
+                }
+            }
+            if (!open.isEmpty()) {
+                throw error(open.peekLast().line(), "block is not closed with 'end'");
+            }
+        } catch (ScriptExit exit) {
+            // Explicit exit or fail-fast stop
+        } catch (IllegalArgumentException e) {
+            return new Result(commands, failures, EXIT_SCRIPT_ERROR, e.getMessage());
+        }
+
+        int status = exitCode != null ? exitCode : failures > 0 ? EXIT_COMMAND_FAILED : EXIT_OK;
+        return new Result(commands, failures, status, null);
+    }
+
+    /**
+     * Parse one line, adding it to the innermost open block if there is one
+     *
+     * @return a complete top-level statement ready to run, or null
+     */
+    private Statement parseLine(int line, String text, Deque<Block> open) {
+        if (text.isEmpty() || text.startsWith("#")) {
+            return null;
+        }
+
+        String[] words = text.split("\\s+");
+        String keyword = words[0].toLowerCase();
+        if ("end".equals(keyword)) {
+            if (open.isEmpty()) {
+                throw error(line, "'end' without 'repeat' or 'for'");
+            }
+            Block closed = open.pop();
+            return open.isEmpty() ? closed : null;
+        }
+
+        Statement statement = switch (keyword) {
+            case "set" -> parseSet(line, text);
+            case "repeat" -> {
+                if (words.length != 2 && !(words.length == 4 && "as".equalsIgnoreCase(words[2]))) {
+                    throw error(line, "expected 'repeat <count> [as <variable>]'");
+                }
+                String variable = words.length == 4 ? checkName(line, words[3]) : null;
+                yield new Block(line, words[1], variable, null, new ArrayList<>());
+            }
+            case "for" -> {
+                if (words.length < 4 || !"in".equalsIgnoreCase(words[2])) {
+                    throw error(line, "expected 'for <variable> in <value>...'");
+                }
+                yield new Block(line, null, checkName(line, words[1]), text.split("\\s+", 4)[3], new ArrayList<>());
+            }
+            case "exit", "quit", "q" -> {
+                if (words.length > 2) {
+                    throw error(line, "expected 'exit [code]'");
+                }
+                yield new Exit(line, words.length == 2 ? words[1] : null);
+            }
+            default -> new Command(line, text);
+        };
+
+        if (!open.isEmpty()) {
+            open.peek().body().add(statement);
+        }
+        if (statement instanceof Block block) {
+            open.push(block);
+            return null;
+        }
+        return open.isEmpty() ? statement : null;
+    }
+
+    private void execute(List<Statement> body) {
+        for (Statement statement : body) {
+            switch (statement) {
+                case Command command -> {
+                    commands++;
+                    if (!executor.test(expand(command.line(), command.text()))) {
+                        failures++;
+                        if (failFast) {
+                            throw new ScriptExit();
+                        }
+                    }
+                }
+                case SetVariable set -> variables.put(set.name(), expand(set.line(), set.value()));
+                case Block block when block.count() != null -> executeRepeat(block);
+                case Block block -> executeFor(block);
+                case Exit exit -> {
+                    exitCode = exit.code() == null
+                        ? (failures > 0 ? EXIT_COMMAND_FAILED : EXIT_OK)
+                        : parseInt(exit.line(), expand(exit.line(), exit.code()), "exit code");
+                    throw new ScriptExit();
+                }
+            }
+        }
+    }
+
+    private void executeRepeat(Block block) {
+        int count = parseInt(block.line(), expand(block.line(), block.count()), "repeat count");
+        if (count < 0) {
+            throw error(block.line(), "repeat count must not be negative");
+        }
+        for (int i = 1; i <= count; i++) {
+            if (block.variable() != null) {
+                variables.put(block.variable(), Integer.toString(i));
+            }
+            execute(block.body());
+        }
+    }
+
+    private void executeFor(Block block) {
+        for (String value : expand(block.line(), block.values()).split("\\s+")) {
+            if (!value.isEmpty()) {
+                variables.put(block.variable(), value);
+                execute(block.body());
+            }
+        }
+    }
+
+    private String expand(int line, String text) {
+        if (text.indexOf("${") < 0) {
+            return text;
+        }
+        Matcher matcher = VARIABLE.matcher(text);
+        StringBuilder expanded = new StringBuilder(text.length() + 16);
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            String value = variables.get(name);
+            if (value == null) {
+                value = System.getenv(name);
+            }
+            if (value == null) {
+                throw error(line, "undefined variable: " + name);
+            }
+            matcher.appendReplacement(expanded, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(expanded);
+        return expanded.toString();
+    }
+
+    private int parseInt(int line, String value, String what) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw error(line, "invalid " + what + ": " + value);
+        }
+    }
+
+    private Statement parseSet(int line, String text) {
+        String assignment = text.length() > 3 ? text.substring(3).strip() : "";
+        int equals = assignment.indexOf('=');
+        if (equals <= 0) {
+            throw error(line, "expected 'set <name>=<value>'");
+        }
+        String name = checkName(line, assignment.substring(0, equals).strip());
+        return new SetVariable(line, name, assignment.substring(equals + 1).strip());
+    }
+
+    private String checkName(int line, String name) {
+        if (!NAME.matcher(name).matches()) {
+            throw error(line, "invalid variable name: " + name);
+        }
+        return name;
+    }
+
+    private IllegalArgumentException error(int line, String message) {
+        return new IllegalArgumentException(source + ":" + line + ": " + message);
+    }
+
+    private sealed interface Statement permits Command, SetVariable, Block, Exit {}
+
+    private record Command(int line, String text) implements Statement {}
+
+    private record SetVariable(int line, String name, String value) implements Statement {}
+
+    /**
+     * A repeat block (count set) or a for block (values set)
+     */
+    private record Block(int line, String count, String variable, String values, List<Statement> body) implements Statement {}
+
+    private record Exit(int line, String code) implements Statement {}
+
+    private static final class ScriptExit extends RuntimeException {
+        ScriptExit() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Outcome of a script run
+     *
+     * @param commands Number of commands executed
+     * @param failures Number of commands that failed
+     * @param exitCode Process exit status
+     * @param error Script error that stopped the run, if any
+     */
+    record Result(long commands, long failures, int exitCode, String error) {}
+}
@@ -0,0 +1,553 @@
+package com.baskettecase.mcpclient.cli;
+
+import com.baskettecase.mcpclient.client.ServerConnection;
+import com.baskettecase.mcpclient.client.ServerProcessPool;
+import com.baskettecase.mcpclient.client.SpringAiMcpClientManager;
+import com.baskettecase.mcpclient.client.ToolCallCoalescer;
+import com.baskettecase.mcpclient.client.ToolCallMetrics;
+import com.baskettecase.mcpclient.client.ToolInvocation;
+import com.baskettecase.mcpclient.client.ToolRegistry;
+import com.baskettecase.mcpclient.client.ToolResultCache;
+import com.baskettecase.mcpclient.client.ToolResults;
+import com.baskettecase.mcpclient.client.ToolSchema;
+import com.baskettecase.mcpclient.util.ParameterParser;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Machine-readable variants of the CLI commands
+ *
+ * Every command writes exactly one JSON document on its own line with at least
+ * "command", "success" and "elapsedMillis", plus "error" on failure. Documents are
+ * written with a streaming JsonGenerator straight to stdout, so large tool lists and
+ * batch results are never assembled in memory. Tool results that are themselves
+ * JSON are embedded as JSON; anything else is written as a string.
+ */
+final class JsonCommands {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final SpringAiMcpClientManager clientManager;
+    private final ParameterParser parameterParser;
+    private final boolean schemaCoercion;
+
+    JsonCommands(SpringAiMcpClientManager clientManager, ParameterParser parameterParser, boolean schemaCoercion) {
+        this.clientManager = clientManager;
+        this.parameterParser = parameterParser;
+        this.schemaCoercion = schemaCoercion;
+    }
+
+    /**
+     * Execute a command and write its JSON document to stdout
+     *
+     * @return true if the command succeeded
+     */
+    boolean execute(String command, String args) {
+        long start = System.nanoTime();
+        PrintStream out = System.out;
+        boolean success;
+        try (JsonGenerator json = OBJECT_MAPPER.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("command", command);
+
+            String error = null;
+            try {
+                error = write(json, command, args.trim());
+            } catch (Exception e) {
+                error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                closeNested(json);
+            }
+
+            success = error == null;
+            json.writeBooleanField("success", success);
+            if (!success) {
+                json.writeStringField("error", error);
+            }
+            json.writeNumberField("elapsedMillis", (System.nanoTime() - start) / 1_000_000.0);
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write JSON output: " + e.getMessage(), e);
+        }
+        out.println();
+        out.flush();
+        return success;
+    }
+
+    /**
+     * Write the command's fields
+     *
+     * @return error message if the command failed, null on success
+     */
+    private String write(JsonGenerator json, String command, String args) throws IOException {
+        return switch (command) {
+            case "connect" -> connect(json, args);
+            case "use" -> use(json, args);
+            case "disconnect" -> disconnect(json, args);
+            case "list-tools" -> listTools(json);
+            case "refresh-tools" -> refreshTools(json, args);
+            case "status" -> status(json);
+            case "describe-tool" -> describeTool(json, args);
+            case "invoke-tool" -> invokeTool(json, args);
+            case "batch-invoke" -> batchInvoke(json, args);
+            case "metrics" -> metrics(json, args);
+            case "cache" -> cache(json, args);
+            case "show-default" -> showDefault(json);
+            case "remove-default" -> removeDefault(json);
+            case "generate-config" -> generateConfig(json);
+            case "help" -> help(json);
+            default -> "Unknown command: " + command;
+        };
+    }
+
+    private String connect(JsonGenerator json, String args) throws IOException {
+        String[] parts = args.split("\\s+");
+        if (parts.length < 3 || !parts[1].equals("stdio")) {
+            return "Usage: connect <name> stdio <jar-path> [default]";
+        }
+        String serverName = parts[0];
+        boolean saveDefault = parts.length > 3 && "default".equals(parts[3]);
+
+        json.writeStringField("server", serverName);
+        json.writeStringField("jarPath", parts[2]);
+        json.writeBooleanField("savedAsDefault", saveDefault);
+        if (!clientManager.connect(serverName, parts[2], saveDefault)) {
+            return "Failed to connect to server: " + serverName;
+        }
+        json.writeNumberField("toolCount", clientManager.listToolNames(serverName).size());
+        return null;
+    }
+
+    private String use(JsonGenerator json, String serverName) throws IOException {
+        if (serverName.isEmpty()) {
+            return "Usage: use <name>";
+        }
+        json.writeStringField("server", serverName);
+        return clientManager.useServer(serverName) ? null : "Not connected to server: " + serverName;
+    }
+
+    private String disconnect(JsonGenerator json, String args) throws IOException {
+        String serverName = args.isEmpty() ? clientManager.getCurrentServerName() : args;
+        if (serverName == null) {
+            return "Not connected to any MCP server";
+        }
+        json.writeStringField("server", serverName);
+        if (!clientManager.disconnect(serverName)) {
+            return "Not connected to server: " + serverName;
+        }
+        json.writeStringField("currentServer", clientManager.getCurrentServerName());
+        return null;
+    }
+
+    private String listTools(JsonGenerator json) throws IOException {
+        if (!clientManager.isConnected()) {
+            return "Not connected to any MCP server";
+        }
+        json.writeStringField("server", clientManager.getCurrentServerName());
+        json.writeArrayFieldStart("tools");
+        for (ToolRegistry.ToolSummary tool : clientManager.listToolSummaries()) {
+            json.writeStartObject();
+            json.writeStringField("name", tool.name());
+            json.writeStringField("description", tool.description());
+            json.writeNumberField("parameterCount", tool.parameterCount());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        return null;
+    }
+
+    private String refreshTools(JsonGenerator json, String args) throws IOException {
+        String serverName = args.isEmpty() ? clientManager.getCurrentServerName() : args;
+        if (serverName == null) {
+            return "Not connected to any MCP server";
+        }
+        json.writeStringField("server", serverName);
+        ToolRegistry.Snapshot catalog = clientManager.refreshTools(serverName);
+        json.writeNumberField("toolCount", catalog.entries().size());
+        json.writeNumberField("catalogVersion", catalog.version());
+        return null;
+    }
+
+    private String status(JsonGenerator json) throws IOException {
+        String current = clientManager.getCurrentServerName();
+        json.writeStringField("currentServer", current);
+        json.writeStringField("implementation", clientManager.getImplementationStatus());
+        json.writeArrayFieldStart("connections");
+        for (ServerConnection connection : clientManager.getConnections()) {
+            long readyNanos = connection.getTimeToReadyNanos();
+            json.writeStartObject();
+            json.writeStringField("name", connection.getServerName());
+            json.writeBooleanField("current", connection.getServerName().equals(current));
+            json.writeStringField("state", connection.getState().name());
+            if (connection.getStartError() != null) {
+                json.writeStringField("startError", connection.getStartError());
+            }
+            json.writeStringField("jarPath", connection.getJarPath());
+            ToolRegistry.Snapshot catalog = connection.getToolRegistry().snapshot();
+            json.writeNumberField("toolCount", catalog.entries().size());
+            json.writeNumberField("catalogVersion", catalog.version());
+            json.writeBooleanField("catalogCached", catalog.cached());
+            json.writeNumberField("inFlight", connection.getInFlight());
+            json.writeNumberField("completedCalls", connection.getCompletedCalls());
+            json.writeNumberField("failedCalls", connection.getFailedCalls());
+            if (readyNanos >= 0) {
+                json.writeNumberField("readyMillis", readyNanos / 1_000_000.0);
+            }
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+
+        ServerProcessPool.PoolStats pool = clientManager.getProcessPool().stats();
+        json.writeObjectFieldStart("processPool");
+        json.writeBooleanField("enabled", pool.enabled());
+        json.writeNumberField("idle", pool.idle());
+        json.writeNumberField("maxSize", pool.maxSize());
+        json.writeNumberField("spawned", pool.spawned());
+        json.writeNumberField("reused", pool.reused());
+        json.writeNumberField("evicted", pool.evicted());
+        json.writeEndObject();
+        return null;
+    }
+
+    private String describeTool(JsonGenerator json, String toolName) throws IOException {
+        if (toolName.isEmpty()) {
+            return "Usage: describe-tool <tool-name>";
+        }
+        if (!clientManager.isConnected()) {
+            return "Not connected to any MCP server";
+        }
+        var tool = clientManager.getTool(toolName);
+        if (tool.isEmpty()) {
+            return "Tool not found: " + toolName;
+        }
+
+        ToolRegistry.ToolEntry entry = tool.get();
+        json.writeObjectFieldStart("tool");
+        json.writeStringField("name", entry.name());
+        json.writeStringField("fullName", entry.fullName());
+        json.writeStringField("description", description(entry));
+        json.writeArrayFieldStart("parameters");
+        for (ToolSchema.Parameter parameter : entry.schema().parameters()) {
+            json.writeStartObject();
+            json.writeStringField("name", parameter.name());
+            json.writeStringField("type", parameter.type().jsonName());
+            if (parameter.type() == ToolSchema.ParamType.ARRAY) {
+                json.writeStringField("itemType", parameter.itemType().jsonName());
+            }
+            json.writeBooleanField("required", parameter.required());
+            if (!parameter.allowedValues().isEmpty()) {
+                json.writeObjectField("enum", parameter.allowedValues());
+            }
+            json.writeStringField("description", parameter.description());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeFieldName("inputSchema");
+        writeJsonOrString(json, entry.definition() != null ? entry.definition().inputSchema() : null);
+        json.writeEndObject();
+        return null;
+    }
+
+    private String invokeTool(JsonGenerator json, String args) throws IOException {
+        if (args.isEmpty()) {
+            return "Usage: invoke-tool <tool-name> [parameters...]";
+        }
+        if (!clientManager.isConnected()) {
+            return "Not connected to any MCP server";
+        }
+
+        OutputRedirect redirect = OutputRedirect.parse(args);
+        String[] parts = redirect.args().split("\\s+", 2);
+        String toolName = parts[0];
+        String[] paramArgs = parts.length > 1 ? parts[1].split("\\s+") : new String[0];
+        ToolSchema schema = clientManager.getToolSchema(toolName).orElse(null);
+        if (schema == null) {
+            return "Tool not found: " + toolName;
+        }
+
+        // Never prompts; missing parameters are reported by validation
+        Map<String, Object> parameters = schemaCoercion
+            ? parameterParser.parseParameters(paramArgs, schema)
+            : parameterParser.parseParameters(paramArgs);
+
+        json.writeStringField("server", clientManager.getCurrentServerName());
+        json.writeStringField("tool", toolName);
+        json.writeObjectField("parameters", parameters);
+
+        List<String> validationErrors = schema.validate(parameters);
+        if (!validationErrors.isEmpty()) {
+            json.writeArrayFieldStart("validationErrors");
+            for (String error : validationErrors) {
+                json.writeString(error);
+            }
+            json.writeEndArray();
+            return "Invalid parameters for " + toolName;
+        }
+
+        long start = System.nanoTime();
+        McpSchema.CallToolResult result = clientManager.callTool(toolName, parameters);
+        json.writeNumberField("latencyMillis", (System.nanoTime() - start) / 1_000_000.0);
+        if (ToolResults.isError(result)) {
+            return ToolResults.text(result);
+        }
+        if (redirect.isPresent()) {
+            // Rendered text goes to the file; the document only reports where it went
+            long bytes = redirect.write(result);
+            json.writeStringField("outputFile", redirect.file().toString());
+            json.writeNumberField("bytesWritten", bytes);
+            return null;
+        }
+        // Content blocks as the server sent them, serialized before the field is started
+        TokenBuffer content = new TokenBuffer(OBJECT_MAPPER, false);
+        OBJECT_MAPPER.writeValue(content, result.content());
+        json.writeFieldName("result");
+        content.serialize(json);
+        return null;
+    }
+
+    private String batchInvoke(JsonGenerator json, String args) throws IOException {
+        if (args.isEmpty()) {
+            return "Usage: batch-invoke <file.jsonl> [--parallel N] [--ordered]";
+        }
+        if (!clientManager.isConnected()) {
+            return "Not connected to any MCP server";
+        }
+
+        BatchRequest request = BatchRequest.parse(args);
+        List<ToolInvocation> invocations = request.readInvocations();
+        json.writeStringField("file", request.file().toString());
+        json.writeNumberField("parallelism", request.parallelism());
+        json.writeBooleanField("ordered", request.ordered());
+
+        // Results are streamed out as they complete; the listener is never called concurrently
+        json.writeArrayFieldStart("results");
+        var summary = clientManager.executeBatch(invocations, request.parallelism(), request.ordered(), result -> {
+            try {
+                json.writeStartObject();
+                json.writeNumberField("index", result.index() + 1);
+                json.writeStringField("tool", result.toolName());
+                json.writeBooleanField("success", result.success());
+                json.writeNumberField("latencyMillis", result.latencyMillis());
+                json.writeFieldName(result.success() ? "result" : "error");
+                if (result.success()) {
+                    writeJsonOrString(json, result.result());
+                } else {
+                    json.writeString(result.result());
+                }
+                json.writeEndObject();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to write JSON output: " + e.getMessage(), e);
+            }
+        });
+        json.writeEndArray();
+
+        json.writeObjectFieldStart("summary");
+        json.writeNumberField("calls", summary.total());
+        json.writeNumberField("succeeded", summary.succeeded());
+        json.writeNumberField("failed", summary.failed());
+        json.writeNumberField("wallMillis", summary.wallNanos() / 1_000_000.0);
+        json.writeNumberField("throughputPerSecond", summary.throughputPerSecond());
+        json.writeNumberField("minMillis", summary.minNanos() / 1_000_000.0);
+        json.writeNumberField("meanMillis", summary.meanNanos() / 1_000_000.0);
+        json.writeNumberField("p50Millis", summary.p50Nanos() / 1_000_000.0);
+        json.writeNumberField("p99Millis", summary.p99Nanos() / 1_000_000.0);
+        json.writeNumberField("maxMillis", summary.maxNanos() / 1_000_000.0);
+        json.writeEndObject();
+        return summary.failed() > 0 ? summary.failed() + " of " + summary.total() + " calls failed" : null;
+    }
+
+    private String metrics(JsonGenerator json, String args) throws IOException {
+        ToolCallMetrics metrics = clientManager.getToolCallMetrics();
+        switch (args) {
+            case "" -> {
+            }
+            case "reset" -> {
+                metrics.reset();
+                json.writeBooleanField("reset", true);
+                return null;
+            }
+            default -> {
+                return "Usage: metrics [reset]";
+            }
+        }
+
+        json.writeArrayFieldStart("servers");
+        for (ToolCallMetrics.CallStats stats : metrics.serverStats()) {
+            writeCallStats(json, stats);
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("tools");
+        for (ToolCallMetrics.CallStats stats : metrics.toolStats()) {
+            writeCallStats(json, stats);
+        }
+        json.writeEndArray();
+
+        ToolCallCoalescer.CoalescingStats coalescing = clientManager.getCallCoalescer().stats();
+        if (coalescing.enabled()) {
+            json.writeObjectFieldStart("coalescing");
+            json.writeNumberField("executed", coalescing.executed());
+            json.writeNumberField("coalesced", coalescing.coalesced());
+            json.writeNumberField("inFlight", coalescing.inFlight());
+            json.writeEndObject();
+        }
+        return null;
+    }
+
+    private String cache(JsonGenerator json, String args) throws IOException {
+        ToolResultCache cache = clientManager.getResultCache();
+        switch (args) {
+            case "" -> {
+            }
+            case "clear" -> {
+                cache.clear();
+                json.writeBooleanField("cleared", true);
+                return null;
+            }
+            default -> {
+                return "Usage: cache [clear]";
+            }
+        }
+
+        ToolResultCache.CacheStats stats = cache.stats();
+        json.writeBooleanField("enabled", stats.enabled());
+        json.writeNumberField("entries", stats.entries());
+        json.writeNumberField("sizeBytes", stats.sizeInBytes());
+        json.writeNumberField("maxBytes", stats.maxBytes());
+        json.writeNumberField("hits", stats.hits());
+        json.writeNumberField("misses", stats.misses());
+        json.writeNumberField("hitRate", stats.hitRate());
+        json.writeNumberField("evictions", stats.evictions());
+        json.writeNumberField("expirations", stats.expirations());
+        return null;
+    }
+
+    private String showDefault(JsonGenerator json) throws IOException {
+        var config = clientManager.getDefaultServerConfig();
+        json.writeFieldName("defaultServer");
+        if (config.isEmpty()) {
+            json.writeNull();
+            return null;
+        }
+        json.writeStartObject();
+        json.writeStringField("name", config.get().serverName());
+        json.writeStringField("jarPath", config.get().jarPath());
+        json.writeNumberField("savedAt", config.get().savedAt());
+        json.writeStringField("configFile", clientManager.getDefaultServerConfigPath());
+        json.writeEndObject();
+        return null;
+    }
+
+    private String removeDefault(JsonGenerator json) throws IOException {
+        var config = clientManager.getDefaultServerConfig();
+        if (config.isEmpty()) {
+            json.writeBooleanField("removed", false);
+            return null;
+        }
+        json.writeStringField("name", config.get().serverName());
+        if (!clientManager.removeDefaultServer()) {
+            return "Failed to remove default server configuration";
+        }
+        json.writeBooleanField("removed", true);
+        return null;
+    }
+
+    private String generateConfig(JsonGenerator json) throws IOException {
+        var config = clientManager.getDefaultServerConfig();
+        if (config.isEmpty()) {
+            return "No default server found. Connect to a server first with the default flag.";
+        }
+        json.writeStringField("server", config.get().serverName());
+        json.writeStringField("jarPath", config.get().jarPath());
+        json.writeStringField("yaml", CliRunner.serverConfigYaml(config.get().serverName(), config.get().jarPath()));
+        return null;
+    }
+
+    private String help(JsonGenerator json) throws IOException {
+        json.writeArrayFieldStart("commands");
+        for (CliRunner.CommandHelp help : CliRunner.COMMANDS) {
+            json.writeStartObject();
+            json.writeStringField("usage", help.usage());
+            json.writeStringField("description", help.description());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        return null;
+    }
+
+    private static void writeCallStats(JsonGenerator json, ToolCallMetrics.CallStats stats) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("server", stats.serverName());
+        if (stats.toolName() != null) {
+            json.writeStringField("tool", stats.toolName());
+        }
+        json.writeNumberField("calls", stats.calls());
+        json.writeNumberField("errors", stats.errors());
+        json.writeNumberField("inFlight", stats.inFlight());
+        json.writeNumberField("meanMillis", stats.meanNanos() / 1_000_000.0);
+        json.writeNumberField("p50Millis", stats.p50Nanos() / 1_000_000.0);
+        json.writeNumberField("p90Millis", stats.p90Nanos() / 1_000_000.0);
+        json.writeNumberField("p99Millis", stats.p99Nanos() / 1_000_000.0);
+        json.writeNumberField("maxMillis", stats.maxNanos() / 1_000_000.0);
+        json.writeNumberField("totalMillis", stats.totalNanos() / 1_000_000.0);
+        json.writeEndObject();
+    }
+
+    private static String description(ToolRegistry.ToolEntry entry) {
+        return entry.definition() != null ? entry.definition().description() : null;
+    }
+
+    /**
+     * Embed text that holds a JSON document as JSON, anything else as a string
+     */
+    private static void writeJsonOrString(JsonGenerator json, String text) throws IOException {
+        if (text == null) {
+            json.writeNull();
+            return;
+        }
+        String trimmed = text.strip();
+        if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+            try {
+                JsonNode tree = OBJECT_MAPPER.readTree(trimmed);
+                json.writeTree(tree);
+                return;
+            } catch (IOException e) {
+                // Not JSON after all
+            }
+        }
+        json.writeString(text);
+    }
+
+    /**
+     * Close any arrays or objects left open by a failed command, back to the document object
+     *
+     * A field name written just before the failure gets a null value first.
+     */
+    static void closeNested(JsonGenerator json) throws IOException {
+        if (json.getOutputContext().inObject()) {
+            try {
+                json.writeNull();
+            } catch (JsonGenerationException e) {
+                // No field name waiting for a value
+            }
+        }
+        JsonStreamContext context = json.getOutputContext();
+        while (context.getParent() != null && !context.getParent().inRoot()) {
+            if (context.inArray()) {
+                json.writeEndArray();
+            } else {
+                json.writeEndObject();
+            }
+            context = json.getOutputContext();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.baskettecase.mcpclient.cli;
+
+import com.baskettecase.mcpclient.client.ToolResults;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Trailing "&gt; file" or "&gt;&gt; file" of an invoke-tool command
+ *
+ * @param args Command arguments without the redirect
+ * @param file File the tool result is written to, or null to print it
+ * @param append Append to the file instead of replacing it
+ */
+record OutputRedirect(String args, Path file, boolean append) {
+
+    private static final byte[] NEWLINE = {'\n'};
+    private static final Pattern REDIRECT = Pattern.compile("\\s(>>?)\\s*([^\\s>'\"]+)\\s*$");
+
+    /**
+     * Split a trailing redirect off the arguments; a '&gt;' inside parameter values is left alone
+     */
+    static OutputRedirect parse(String args) {
+        Matcher matcher = REDIRECT.matcher(args);
+        if (!matcher.find()) {
+            return new OutputRedirect(args, null, false);
+        }
+        return new OutputRedirect(args.substring(0, matcher.start()).trim(),
+            Paths.get(matcher.group(2)), matcher.group(1).length() == 2);
+    }
+
+    boolean isPresent() {
+        return file != null;
+    }
+
+    /**
+     * Write a rendered tool result to the file as UTF-8, ending with a newline
+     *
+     * @return number of bytes written
+     */
+    long write(McpSchema.CallToolResult result) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+            long start = channel.size();
+            ToolResults.write(result, channel, StandardCharsets.UTF_8);
+            channel.write(ByteBuffer.wrap(NEWLINE));
+            return channel.size() - start;
+        }
+    }
+}
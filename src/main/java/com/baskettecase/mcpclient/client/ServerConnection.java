@@ -0,0 +1,177 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-server entry in the connection table
+ *
+ * Holds everything that belongs to one MCP server connection: its own
+ * connection state, tool index, async concurrency permits, in-flight and
+ * completed call counters and connection timing.
+ */
+public class ServerConnection {
+
+    private final String serverName;
+    private final String jarPath;
+    private final ToolRegistry toolRegistry = new ToolRegistry();
+    private final Semaphore permits;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder completedCalls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+
+    private volatile ConnectionState state = ConnectionState.DISCONNECTED;
+    private volatile McpSyncClient client;
+    private volatile McpAsyncClient asyncClient;
+    private volatile ServerProcessPool.LaunchConfig launchConfig;
+    private volatile CompletableFuture<McpSyncClient> pendingClient;
+    private volatile String startError;
+    private volatile long connectedAtMillis;
+    private volatile long timeToReadyNanos = -1;
+    private volatile long lastCallAtMillis;
+
+    public ServerConnection(String serverName, String jarPath, int maxConcurrency) {
+        this.serverName = serverName;
+        this.jarPath = jarPath;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+    }
+
+    public String getServerName() {
+        return serverName;
+    }
+
+    public String getJarPath() {
+        return jarPath;
+    }
+
+    public ConnectionState getState() {
+        return state;
+    }
+
+    void setState(ConnectionState state) {
+        this.state = state;
+        if (state == ConnectionState.CONNECTED) {
+            connectedAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * MCP client backing this server, or null if it could not be identified
+     */
+    public McpSyncClient getClient() {
+        return client;
+    }
+
+    void setClient(McpSyncClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Async MCP client backing this server when Spring AI runs in ASYNC mode, or null
+     */
+    public McpAsyncClient getAsyncClient() {
+        return asyncClient;
+    }
+
+    void setAsyncClient(McpAsyncClient asyncClient) {
+        this.asyncClient = asyncClient;
+    }
+
+    /**
+     * Launch configuration of a client taken from the process pool, or null if
+     * the client is managed by Spring AI
+     */
+    ServerProcessPool.LaunchConfig getLaunchConfig() {
+        return launchConfig;
+    }
+
+    void setLaunchConfig(ServerProcessPool.LaunchConfig launchConfig) {
+        this.launchConfig = launchConfig;
+    }
+
+    /**
+     * Process still being started in the background, or null once the client is set
+     */
+    CompletableFuture<McpSyncClient> getPendingClient() {
+        return pendingClient;
+    }
+
+    void setPendingClient(CompletableFuture<McpSyncClient> pendingClient) {
+        this.pendingClient = pendingClient;
+    }
+
+    /**
+     * Why the process started in the background failed to start, or null
+     */
+    public String getStartError() {
+        return startError;
+    }
+
+    void setStartError(String startError) {
+        this.startError = startError;
+    }
+
+    public ToolRegistry getToolRegistry() {
+        return toolRegistry;
+    }
+
+    Semaphore getPermits() {
+        return permits;
+    }
+
+    /**
+     * Record the start of a tool call against this server
+     */
+    void beginCall() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Record the end of a tool call against this server
+     */
+    void endCall(boolean success) {
+        inFlight.decrementAndGet();
+        completedCalls.increment();
+        if (!success) {
+            failedCalls.increment();
+        }
+        lastCallAtMillis = System.currentTimeMillis();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getCompletedCalls() {
+        return completedCalls.sum();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    public long getConnectedAtMillis() {
+        return connectedAtMillis;
+    }
+
+    public long getLastCallAtMillis() {
+        return lastCallAtMillis;
+    }
+
+    /**
+     * Time from connect until tools were first available, or -1 if not measured
+     */
+    public long getTimeToReadyNanos() {
+        return timeToReadyNanos;
+    }
+
+    void setTimeToReadyNanos(long timeToReadyNanos) {
+        this.timeToReadyNanos = timeToReadyNanos;
+    }
+}
@@ -0,0 +1,345 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.client.transport.StdioClientTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of warm, initialized STDIO server processes
+ *
+ * Every server JAR pays full JVM and Spring startup before it answers the MCP
+ * handshake, so processes are kept running between connections: acquire hands
+ * out an idle process started with the same launch configuration when there is
+ * one and only spawns a new process otherwise, and release parks the process
+ * again instead of stopping it. Idle processes are stopped after the idle
+ * timeout, and at most max-size are kept at once (the longest idle first).
+ * JARs listed under prewarm are started in the background at startup.
+ *
+ * With the pool disabled every acquire spawns a process and every release stops it.
+ *
+ * Configuration under {@code mcp.client.pool}: enabled (default false),
+ * max-size (4), idle-timeout (5m) and prewarm (list of JAR paths).
+ */
+@Service
+public class ServerProcessPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerProcessPool.class);
+
+    private static final int DEFAULT_MAX_SIZE = 4;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(20);
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final Duration requestTimeout;
+    private final McpSchema.Implementation clientInfo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProcessFactory processFactory;
+
+    // Idle processes per launch configuration, most recently released first
+    private final Map<LaunchConfig, Deque<IdleProcess>> idle = new LinkedHashMap<>();
+    private int idleCount;
+
+    private final LongAdder spawned = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    private final ScheduledExecutorService reaper;
+
+    public ServerProcessPool(Environment environment, ApplicationEventPublisher eventPublisher) {
+        this(environment, eventPublisher, null);
+    }
+
+    /**
+     * @param processFactory Starts server processes, or null to launch them as STDIO servers
+     */
+    ServerProcessPool(Environment environment, ApplicationEventPublisher eventPublisher, ProcessFactory processFactory) {
+        this.eventPublisher = eventPublisher;
+        this.processFactory = processFactory != null ? processFactory : this::startProcess;
+        Binder binder = Binder.get(environment);
+        this.enabled = binder.bind("mcp.client.pool.enabled", Boolean.class).orElse(false);
+        this.maxSize = Math.max(0, binder.bind("mcp.client.pool.max-size", Integer.class).orElse(DEFAULT_MAX_SIZE));
+        this.idleTimeoutNanos = binder.bind("mcp.client.pool.idle-timeout", Duration.class)
+            .orElse(DEFAULT_IDLE_TIMEOUT).toNanos();
+        this.requestTimeout = binder.bind("spring.ai.mcp.client.request-timeout", Duration.class)
+            .orElse(DEFAULT_REQUEST_TIMEOUT);
+        this.clientInfo = new McpSchema.Implementation(
+            environment.getProperty("spring.ai.mcp.client.name", "generic-mcp-client"),
+            environment.getProperty("spring.ai.mcp.client.version", "1.0.0"));
+
+        if (enabled) {
+            long sweepMillis = Math.max(1000, Math.min(TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos) / 2, 30_000));
+            this.reaper = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("mcp-pool-reaper").factory());
+            reaper.scheduleWithFixedDelay(this::evictExpired, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+
+            List<String> prewarm = binder.bind("mcp.client.pool.prewarm", Bindable.listOf(String.class)).orElse(List.of());
+            for (String jarPath : prewarm) {
+                Thread.ofVirtual().name("mcp-pool-prewarm").start(() -> prewarm(LaunchConfig.forJar(jarPath)));
+            }
+            logger.info("Server process pool enabled (max size {}, idle timeout {}, {} prewarmed)",
+                maxSize, Duration.ofNanos(idleTimeoutNanos), prewarm.size());
+        } else {
+            this.reaper = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Take an initialized client for a launch configuration
+     *
+     * Reuses a live idle process when the pool has one, otherwise starts a new one.
+     *
+     * @throws IllegalStateException if the server process cannot be started or initialized
+     */
+    public McpSyncClient acquire(LaunchConfig launch) {
+        McpSyncClient client;
+        while ((client = takeIdle(launch)) != null) {
+            if (isAlive(client)) {
+                reused.increment();
+                logger.debug("Reusing warm server process for {}", launch);
+                return client;
+            }
+            logger.debug("Dropping dead idle server process for {}", launch);
+            stop(client);
+        }
+        return spawn(launch);
+    }
+
+    /**
+     * Return a client taken with acquire, keeping its process warm if the pool has room
+     */
+    public void release(LaunchConfig launch, McpSyncClient client) {
+        if (!enabled || maxSize == 0 || !client.isInitialized()) {
+            stop(client);
+            return;
+        }
+
+        McpSyncClient overflow = null;
+        synchronized (idle) {
+            idle.computeIfAbsent(launch, key -> new ArrayDeque<>()).push(new IdleProcess(client, System.nanoTime()));
+            idleCount++;
+            if (idleCount > maxSize) {
+                overflow = removeLongestIdle();
+            }
+        }
+        if (overflow != null) {
+            evicted.increment();
+            stop(overflow);
+        }
+    }
+
+    /**
+     * Start a process for a launch configuration and park it in the pool
+     */
+    public void prewarm(LaunchConfig launch) {
+        try {
+            release(launch, spawn(launch));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to prewarm server process for {}: {}", launch, e.getMessage());
+        }
+    }
+
+    /**
+     * Stop all idle processes
+     */
+    public void shutdown() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+        List<McpSyncClient> clients = new ArrayList<>();
+        synchronized (idle) {
+            idle.values().forEach(deque -> deque.forEach(process -> clients.add(process.client())));
+            idle.clear();
+            idleCount = 0;
+        }
+        clients.forEach(this::stop);
+    }
+
+    public PoolStats stats() {
+        synchronized (idle) {
+            return new PoolStats(enabled, idleCount, maxSize, spawned.sum(), reused.sum(), evicted.sum());
+        }
+    }
+
+    private McpSyncClient spawn(LaunchConfig launch) {
+        McpSyncClient client = processFactory.start(launch);
+        spawned.increment();
+        return client;
+    }
+
+    private McpSyncClient startProcess(LaunchConfig launch) {
+        logger.debug("Starting server process for {}", launch);
+        ServerParameters parameters = ServerParameters.builder(launch.command()).args(launch.args()).build();
+        // The consumer is created before the client it reports for
+        AtomicReference<McpSyncClient> self = new AtomicReference<>();
+        McpSyncClient client = McpClient.sync(new StdioClientTransport(parameters))
+            .requestTimeout(requestTimeout)
+            .clientInfo(clientInfo)
+            .toolsChangeConsumer(tools -> eventPublisher.publishEvent(new ToolListChangedEvent(null, self.get(), tools)))
+            .build();
+        self.set(client);
+        try {
+            client.initialize();
+        } catch (RuntimeException e) {
+            stop(client);
+            throw new IllegalStateException("Failed to start MCP server " + launch + ": " + e.getMessage(), e);
+        }
+        return client;
+    }
+
+    private McpSyncClient takeIdle(LaunchConfig launch) {
+        synchronized (idle) {
+            Deque<IdleProcess> processes = idle.get(launch);
+            if (processes == null || processes.isEmpty()) {
+                return null;
+            }
+            IdleProcess process = processes.pop();
+            if (processes.isEmpty()) {
+                idle.remove(launch);
+            }
+            idleCount--;
+            return process.client();
+        }
+    }
+
+    /**
+     * Remove the process that has been idle the longest; callers hold the idle lock
+     */
+    private McpSyncClient removeLongestIdle() {
+        LaunchConfig oldestLaunch = null;
+        IdleProcess oldest = null;
+        for (Map.Entry<LaunchConfig, Deque<IdleProcess>> entry : idle.entrySet()) {
+            IdleProcess candidate = entry.getValue().peekLast();
+            if (candidate != null && (oldest == null || candidate.idleSinceNanos() - oldest.idleSinceNanos() < 0)) {
+                oldestLaunch = entry.getKey();
+                oldest = candidate;
+            }
+        }
+        if (oldest == null) {
+            return null;
+        }
+        Deque<IdleProcess> processes = idle.get(oldestLaunch);
+        processes.removeLast();
+        if (processes.isEmpty()) {
+            idle.remove(oldestLaunch);
+        }
+        idleCount--;
+        return oldest.client();
+    }
+
+    void evictExpired() {
+        long now = System.nanoTime();
+        List<McpSyncClient> expired = new ArrayList<>();
+        synchronized (idle) {
+            Iterator<Deque<IdleProcess>> deques = idle.values().iterator();
+            while (deques.hasNext()) {
+                Deque<IdleProcess> processes = deques.next();
+                while (!processes.isEmpty() && now - processes.peekLast().idleSinceNanos() >= idleTimeoutNanos) {
+                    expired.add(processes.removeLast().client());
+                    idleCount--;
+                }
+                if (processes.isEmpty()) {
+                    deques.remove();
+                }
+            }
+        }
+        if (!expired.isEmpty()) {
+            logger.debug("Stopping {} idle server processes", expired.size());
+            evicted.add(expired.size());
+            expired.forEach(this::stop);
+        }
+    }
+
+    private boolean isAlive(McpSyncClient client) {
+        try {
+            client.ping();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void stop(McpSyncClient client) {
+        try {
+            if (!client.closeGracefully()) {
+                client.close();
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Error stopping server process: {}", e.getMessage());
+        }
+    }
+
+    private record IdleProcess(McpSyncClient client, long idleSinceNanos) {}
+
+    /**
+     * Starts the server process of a launch configuration
+     */
+    @FunctionalInterface
+    interface ProcessFactory {
+
+        /**
+         * @return an initialized client for the new process
+         * @throws IllegalStateException if the process cannot be started or initialized
+         */
+        McpSyncClient start(LaunchConfig launch);
+    }
+
+    /**
+     * Command line that starts a server; processes are only shared between identical launches
+     */
+    public record LaunchConfig(String command, List<String> args) {
+
+        public LaunchConfig {
+            args = List.copyOf(args);
+        }
+
+        /**
+         * Launch a Spring Boot server JAR with the same quiet flags used in generated configuration
+         */
+        public static LaunchConfig forJar(String jarPath) {
+            return new LaunchConfig("java", List.of(
+                "-Dlogging.level.root=OFF",
+                "-Dspring.main.banner-mode=off",
+                "-Dspring.main.log-startup-info=false",
+                "-jar",
+                jarPath));
+        }
+
+        @Override
+        public String toString() {
+            return command + " " + String.join(" ", args);
+        }
+    }
+
+    /**
+     * Point-in-time pool statistics
+     */
+    public record PoolStats(boolean enabled, int idle, int maxSize, long spawned, long reused, long evicted) {}
+}
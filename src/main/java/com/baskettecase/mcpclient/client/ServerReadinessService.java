@@ -0,0 +1,145 @@
+package com.baskettecase.mcpclient.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Waits for configured MCP servers to become ready
+ *
+ * Instead of sleeping a fixed amount of time per server, every server is probed
+ * concurrently for tool availability with exponential backoff until it reports
+ * tools or the deadline passes. The measured time-to-ready is reported per server.
+ */
+@Service
+public class ServerReadinessService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerReadinessService.class);
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(50);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+
+    private final SpringAiMcpClientManager clientManager;
+    private final Duration timeout;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public ServerReadinessService(SpringAiMcpClientManager clientManager, Environment environment) {
+        this.clientManager = clientManager;
+        this.timeout = environment.getProperty("mcp.client.readiness.timeout", Duration.class, DEFAULT_TIMEOUT);
+        this.initialBackoff = environment.getProperty("mcp.client.readiness.initial-backoff", Duration.class, DEFAULT_INITIAL_BACKOFF);
+        this.maxBackoff = environment.getProperty("mcp.client.readiness.max-backoff", Duration.class, DEFAULT_MAX_BACKOFF);
+    }
+
+    /**
+     * Connect all servers and wait, concurrently, until each one is ready or the deadline passes
+     *
+     * @param servers Server name to JAR path
+     * @return Readiness result per server, in the iteration order of the input map
+     */
+    public List<ReadinessResult> connectAndAwaitReady(Map<String, String> servers) {
+        Map<String, CompletableFuture<ReadinessResult>> pending = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, String> server : servers.entrySet()) {
+                String serverName = server.getKey();
+                String jarPath = server.getValue();
+                pending.put(serverName, CompletableFuture.supplyAsync(
+                    () -> connectAndPoll(serverName, jarPath, deadline), executor));
+            }
+
+            List<ReadinessResult> results = new ArrayList<>(pending.size());
+            for (CompletableFuture<ReadinessResult> future : pending.values()) {
+                results.add(future.join());
+            }
+
+            // Connects race for the current server; settle on the first ready one in input order
+            results.stream()
+                .filter(result -> result.status() == ReadinessStatus.READY)
+                .findFirst()
+                .ifPresent(result -> clientManager.useServer(result.serverName()));
+            return results;
+        }
+    }
+
+    private ReadinessResult connectAndPoll(String serverName, String jarPath, long deadline) {
+        long start = System.nanoTime();
+
+        if (!clientManager.connect(serverName, jarPath, false)) {
+            return new ReadinessResult(serverName, ReadinessStatus.FAILED, 0, System.nanoTime() - start, 0, "connect failed");
+        }
+
+        long backoffNanos = initialBackoff.toNanos();
+        int attempts = 0;
+        String lastError = null;
+
+        while (true) {
+            attempts++;
+            try {
+                int toolCount = clientManager.probeToolCount(serverName);
+                if (toolCount > 0) {
+                    long elapsed = System.nanoTime() - start;
+                    logger.debug("Server {} ready after {} attempts in {} ms", serverName, attempts, elapsed / 1_000_000);
+                    clientManager.markReady(serverName, elapsed);
+                    return new ReadinessResult(serverName, ReadinessStatus.READY, toolCount, elapsed, attempts, null);
+                }
+                lastError = null;
+            } catch (Exception e) {
+                lastError = e.getMessage();
+                logger.debug("Readiness probe for {} failed (attempt {}): {}", serverName, attempts, lastError);
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return new ReadinessResult(serverName, ReadinessStatus.TIMED_OUT, 0, System.nanoTime() - start, attempts, lastError);
+            }
+
+            try {
+                Thread.sleep(Duration.ofNanos(Math.min(backoffNanos, remaining)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new ReadinessResult(serverName, ReadinessStatus.FAILED, 0, System.nanoTime() - start, attempts, "interrupted");
+            }
+            backoffNanos = Math.min(backoffNanos * 2, maxBackoff.toNanos());
+        }
+    }
+
+    /**
+     * Outcome of waiting for a server
+     */
+    public enum ReadinessStatus {
+        READY,
+        TIMED_OUT,
+        FAILED
+    }
+
+    /**
+     * Readiness outcome for one server
+     *
+     * @param serverName Configured server name
+     * @param status Whether the server became ready
+     * @param toolCount Number of tools reported once ready
+     * @param elapsedNanos Time from connect until ready (or until giving up)
+     * @param attempts Number of probes made
+     * @param error Last probe error, if any
+     */
+    public record ReadinessResult(String serverName, ReadinessStatus status, int toolCount,
+                                  long elapsedNanos, int attempts, String error) {
+
+        public long elapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+    }
+}
@@ -1,45 +1,111 @@
 package com.baskettecase.mcpclient.client;
 
 import com.baskettecase.mcpclient.config.DefaultServerConfigService;
+import com.baskettecase.mcpclient.config.DynamicMcpConfigService;
+import com.baskettecase.mcpclient.config.ToolCatalogCacheService;
 import com.baskettecase.mcpclient.config.YamlConfigService;
+import com.baskettecase.mcpclient.jfr.ConnectEvent;
+import com.baskettecase.mcpclient.jfr.ToolDiscoveryEvent;
+import com.baskettecase.mcpclient.jfr.ToolExecutionEvent;
+import com.baskettecase.mcpclient.util.ParameterSerializer;
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.ai.mcp.AsyncMcpToolCallbackProvider;
 import org.springframework.ai.mcp.SyncMcpToolCallbackProvider;
-import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
 import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Spring AI MCP Client Manager
  * 
  * Proper implementation using Spring AI 1.0.0 MCP Client functionality.
  * This follows the official Spring AI MCP Client documentation and examples.
+ * 
+ * Works with either client type (spring.ai.mcp.client.type). With ASYNC, the
+ * configured servers are called on their async clients without blocking a thread;
+ * blocking clients are driven from virtual threads on the same reactive path.
  */
 @Service
 public class SpringAiMcpClientManager {
 
     private static final Logger logger = LoggerFactory.getLogger(SpringAiMcpClientManager.class);
+    private static final String MAX_CONCURRENCY_PROPERTY = "mcp.client.async.max-concurrency-per-server";
+    private static final int DEFAULT_MAX_CONCURRENCY = 16;
 
     private final DefaultServerConfigService defaultServerConfigService;
     private final YamlConfigService yamlConfigService;
+    private final DynamicMcpConfigService dynamicConfigService;
     private final Environment environment;
+    private final ParameterSerializer parameterSerializer;
+    private final ToolCallMetrics toolCallMetrics;
+    private final ToolResultCache resultCache;
+    private final ToolCallCoalescer callCoalescer;
+    private final ServerProcessPool processPool;
+    private final ToolCatalogCacheService catalogCache;
     
     // Spring AI MCP Client components - injected when available
-    private SyncMcpToolCallbackProvider toolCallbackProvider;
+    private ToolCallbackProvider toolCallbackProvider;
+    private List<McpSyncClient> mcpSyncClients = List.of();
+    private List<McpAsyncClient> mcpAsyncClients = List.of();
+    
+    // Connection table keyed by server name; the current server receives calls that do not name one
+    private final Map<String, ServerConnection> connections = new ConcurrentHashMap<>();
+    private volatile String currentServerName;
     
-    private String currentServerName;
+    // Async invocation: one virtual thread per call, capped per server
+    private final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Scheduler blockingScheduler = Schedulers.fromExecutorService(asyncExecutor, "mcp-blocking");
+    private final int maxConcurrencyPerServer;
 
     @Autowired
     public SpringAiMcpClientManager(DefaultServerConfigService defaultServerConfigService, 
                                    YamlConfigService yamlConfigService,
-                                   Environment environment) {
+                                   DynamicMcpConfigService dynamicConfigService,
+                                   Environment environment,
+                                   ParameterSerializer parameterSerializer,
+                                   ToolCallMetrics toolCallMetrics,
+                                   ToolResultCache resultCache,
+                                   ToolCallCoalescer callCoalescer,
+                                   ServerProcessPool processPool,
+                                   ToolCatalogCacheService catalogCache) {
         this.defaultServerConfigService = defaultServerConfigService;
         this.yamlConfigService = yamlConfigService;
+        this.dynamicConfigService = dynamicConfigService;
         this.environment = environment;
+        this.parameterSerializer = parameterSerializer;
+        this.toolCallMetrics = toolCallMetrics;
+        this.resultCache = resultCache;
+        this.callCoalescer = callCoalescer;
+        this.processPool = processPool;
+        this.catalogCache = catalogCache;
+        this.maxConcurrencyPerServer = Math.max(1,
+            environment.getProperty(MAX_CONCURRENCY_PROPERTY, Integer.class, DEFAULT_MAX_CONCURRENCY));
     }
 
 
@@ -54,6 +120,33 @@ public class SpringAiMcpClientManager {
         }
     }
 
+    /**
+     * Set the async tool callback provider (injected when the client type is ASYNC)
+     */
+    @Autowired(required = false)
+    public void setAsyncToolCallbackProvider(AsyncMcpToolCallbackProvider toolCallbackProvider) {
+        if (toolCallbackProvider != null) {
+            this.toolCallbackProvider = toolCallbackProvider;
+            logger.info("Spring AI MCP Async Tool Callback Provider is now available");
+        }
+    }
+
+    /**
+     * Set the underlying MCP sync clients (injected when available)
+     */
+    @Autowired(required = false)
+    public void setMcpSyncClients(List<McpSyncClient> mcpSyncClients) {
+        this.mcpSyncClients = mcpSyncClients != null ? mcpSyncClients : List.of();
+    }
+
+    /**
+     * Set the underlying MCP async clients (injected when the client type is ASYNC)
+     */
+    @Autowired(required = false)
+    public void setMcpAsyncClients(List<McpAsyncClient> mcpAsyncClients) {
+        this.mcpAsyncClients = mcpAsyncClients != null ? mcpAsyncClients : List.of();
+    }
+
     /**
      * Connect to an MCP server by adding it to Spring configuration
      */
@@ -67,6 +160,9 @@ public class SpringAiMcpClientManager {
     public boolean connect(String serverName, String jarPath, boolean saveAsDefault) {
         logger.info("Configuring MCP server: {} using JAR: {}", serverName, jarPath);
         
+        ConnectEvent event = new ConnectEvent();
+        event.begin();
+        ServerConnection connection = null;
         try {
             // Save as default if requested
             if (saveAsDefault) {
@@ -78,24 +174,66 @@ public class SpringAiMcpClientManager {
                 }
             }
             
+            // Reuse the existing entry unless the server now points at a different JAR
+            ServerConnection previous = connections.get(serverName);
+            if (previous != null && !Objects.equals(previous.getJarPath(), jarPath)) {
+                releaseProcess(previous);
+            }
+            connection = connections.compute(serverName, (name, existing) ->
+                existing != null && Objects.equals(existing.getJarPath(), jarPath)
+                    ? existing
+                    : new ServerConnection(name, jarPath, maxConcurrencyPerServer));
+            connection.setState(ConnectionState.CONNECTING);
+            connection.setStartError(null);
+            
+            // With a saved catalog the tools are usable right away while the server starts
+            if (startFromCatalog(connection)) {
+                logger.info("Restored {} tools of {} from the catalog cache, server starting in background",
+                    connection.getToolRegistry().snapshot().entries().size(), serverName);
+                currentServerName = serverName;
+                event.success = true;
+                return true;
+            }
+            McpAsyncClient asyncClient = findAsyncClient(serverName);
+            if (asyncClient != null) {
+                connection.setAsyncClient(asyncClient);
+            } else {
+                connection.setClient(resolveClient(connection));
+            }
+            
             // Check if Spring AI MCP Client has this server configured
-            boolean hasActiveConnection = checkForServerConnection(serverName);
+            boolean hasActiveConnection = checkForServerConnection(connection);
             
             if (hasActiveConnection) {
                 logger.debug("✓ Spring AI MCP Client already has active connection to: {}", serverName);
-                currentServerName = serverName;
-                return true;
+                if (!connection.getToolRegistry().isLoaded()) {
+                    discoverTools(connection);
+                }
             } else {
                 logger.debug("⚠ Server '{}' not found in Spring AI MCP Client connections", serverName);
-                
                 // Still consider this a "successful" connection for CLI purposes
-                currentServerName = serverName;
-                return true;
             }
             
+            connection.setState(ConnectionState.CONNECTED);
+            currentServerName = serverName;
+            event.success = true;
+            return true;
+            
         } catch (Exception e) {
             logger.error("Failed to configure MCP server: {} with JAR: {}", serverName, jarPath, e);
+            if (connection != null) {
+                connection.setState(ConnectionState.ERROR);
+            }
             return false;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.serverName = serverName;
+                event.jarPath = jarPath;
+                event.clientFound = connection != null
+                    && (connection.getClient() != null || connection.getAsyncClient() != null);
+                event.commit();
+            }
         }
     }
 
@@ -103,21 +241,94 @@ public class SpringAiMcpClientManager {
      * Disconnect from the current MCP server
      */
     public void disconnect() {
-        if (currentServerName == null) {
+        String serverName = currentServerName;
+        if (serverName == null) {
             logger.info("No active connection to disconnect");
             return;
         }
+        disconnect(serverName);
+    }
 
-        logger.info("Disconnecting from MCP server: {}", currentServerName);
-        currentServerName = null;
+    /**
+     * Disconnect from a specific MCP server and drop it from the connection table
+     * 
+     * @return true if the server was connected
+     */
+    public boolean disconnect(String serverName) {
+        ServerConnection connection = connections.remove(serverName);
+        if (connection == null) {
+            logger.info("Not connected to server: {}", serverName);
+            return false;
+        }
+
+        logger.info("Disconnecting from MCP server: {}", serverName);
+        connection.setState(ConnectionState.DISCONNECTING);
+        connection.getToolRegistry().clear();
+        resultCache.invalidate(serverName);
+        releaseProcess(connection);
+        connection.setState(ConnectionState.DISCONNECTED);
+
+        // Fall back to another connected server, if any
+        if (serverName.equals(currentServerName)) {
+            currentServerName = connections.keySet().stream().sorted().findFirst().orElse(null);
+        }
         logger.info("Disconnected successfully");
+        return true;
+    }
+
+    /**
+     * Make a connected server the current one
+     * 
+     * @return true if the server is in the connection table
+     */
+    public boolean useServer(String serverName) {
+        if (!connections.containsKey(serverName)) {
+            return false;
+        }
+        currentServerName = serverName;
+        return true;
+    }
+
+    /**
+     * Get all entries in the connection table, ordered by server name
+     */
+    public List<ServerConnection> getConnections() {
+        List<ServerConnection> result = new ArrayList<>(connections.values());
+        result.sort(Comparator.comparing(ServerConnection::getServerName));
+        return result;
+    }
+
+    /**
+     * Get the connection table entry for a server
+     */
+    public Optional<ServerConnection> getConnection(String serverName) {
+        return Optional.ofNullable(connections.get(serverName));
+    }
+
+    /**
+     * Record how long a server took to expose its tools after connecting
+     */
+    public void markReady(String serverName, long timeToReadyNanos) {
+        ServerConnection connection = connections.get(serverName);
+        if (connection != null) {
+            connection.setTimeToReadyNanos(timeToReadyNanos);
+        }
     }
 
     /**
      * Get current connection status
      */
     public ConnectionState getConnectionState() {
-        return isConnected() ? ConnectionState.CONNECTED : ConnectionState.DISCONNECTED;
+        String serverName = currentServerName;
+        return serverName != null ? getConnectionState(serverName) : ConnectionState.DISCONNECTED;
+    }
+
+    /**
+     * Get connection status of a specific server
+     */
+    public ConnectionState getConnectionState(String serverName) {
+        ServerConnection connection = connections.get(serverName);
+        return connection != null ? connection.getState() : ConnectionState.DISCONNECTED;
     }
 
     /**
@@ -155,29 +366,18 @@ public class SpringAiMcpClientManager {
      * List all available tools from the connected MCP server
      */
     public List<String> listToolNames() {
-        if (!isConnected()) {
-            throw new IllegalStateException("Not connected to any MCP server");
-        }
+        return listToolNames(requireCurrentServer());
+    }
+
+    /**
+     * List all available tools from a specific connected MCP server
+     */
+    public List<String> listToolNames(String serverName) {
+        ServerConnection connection = requireConnection(serverName);
 
         try {
-            if (toolCallbackProvider != null) {
-                ToolCallback[] callbacks = toolCallbackProvider.getToolCallbacks();
-                List<String> toolNames = new ArrayList<>();
-                
-                logger.debug("Found {} tool callbacks from Spring AI MCP Client", callbacks.length);
-                
-                for (ToolCallback callback : callbacks) {
-                    try {
-                        // Extract tool name from the callback
-                        String toolName = extractToolNameFromCallback(callback);
-                        if (toolName != null && !toolName.isEmpty()) {
-                            toolNames.add(toolName);
-                            logger.debug("Found tool: {}", toolName);
-                        }
-                    } catch (Exception e) {
-                        logger.debug("Error processing tool callback: {}", e.getMessage());
-                    }
-                }
+            if (hasToolSource(connection)) {
+                List<String> toolNames = catalog(connection).toolNames();
                 
                 if (!toolNames.isEmpty()) {
                     return toolNames;
@@ -188,38 +388,148 @@ public class SpringAiMcpClientManager {
             return Collections.emptyList();
             
         } catch (Exception e) {
-            logger.error("Failed to list tools from MCP server", e);
+            logger.error("Failed to list tools from MCP server: {}", serverName, e);
             throw new RuntimeException("Failed to list tools: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Summarize the tools of the current server (name, description, parameter count)
+     */
+    public List<ToolRegistry.ToolSummary> listToolSummaries() {
+        return listToolSummaries(requireCurrentServer());
+    }
+
+    /**
+     * Summarize the tools of a specific connected server
+     * 
+     * Served from the server's catalog snapshot, where summaries are built once per
+     * discovery; the server is only asked for its tools if it was never listed.
+     */
+    public List<ToolRegistry.ToolSummary> listToolSummaries(String serverName) {
+        ServerConnection connection = requireConnection(serverName);
+        if (!hasToolSource(connection)) {
+            return Collections.emptyList();
+        }
+
+        return catalog(connection).summaries();
+    }
+
+    /**
+     * Re-list the tools of the current server
+     */
+    public ToolRegistry.Snapshot refreshTools() {
+        return refreshTools(requireCurrentServer());
+    }
+
+    /**
+     * Re-list the tools of a specific connected server and publish a new catalog version
+     * 
+     * Catalogs are otherwise only refreshed when the server sends tools/list_changed.
+     */
+    public ToolRegistry.Snapshot refreshTools(String serverName) {
+        ServerConnection connection = requireConnection(serverName);
+        if (!hasToolSource(connection)) {
+            throw new IllegalStateException("Spring AI MCP Client not available for server: " + serverName);
+        }
+        resultCache.invalidate(serverName);
+        return discoverTools(connection);
+    }
+
+    /**
+     * Apply a tools/list_changed notification to the connection it came from
+     * 
+     * The notification already carries the full tool list, so the catalog is rebuilt
+     * from it without another round trip.
+     */
+    @EventListener
+    public void onToolListChanged(ToolListChangedEvent event) {
+        for (ServerConnection connection : connections.values()) {
+            boolean matches = event.client() != null
+                ? event.client() == connection.getClient()
+                : connection.getLaunchConfig() == null && connection.getServerName().equals(event.serverName());
+            if (matches) {
+                ToolRegistry.Snapshot snapshot;
+                if (connection.getAsyncClient() != null) {
+                    snapshot = connection.getToolRegistry().refresh(connection.getAsyncClient(), event.tools());
+                } else if (connection.getClient() != null) {
+                    snapshot = connection.getToolRegistry().refresh(connection.getClient(), event.tools());
+                    saveCatalog(connection, event.tools());
+                } else {
+                    // Listing through the callback provider blocks; keep it off the notifying thread
+                    Mono.fromCallable(() -> discoverTools(connection))
+                        .subscribeOn(blockingScheduler)
+                        .subscribe(refreshed -> {
+                            resultCache.invalidate(connection.getServerName());
+                            logger.info("Tool list of server {} changed: {} tools (catalog version {})",
+                                connection.getServerName(), refreshed.entries().size(), refreshed.version());
+                        }, error -> logger.warn("Failed to list tools of {}: {}",
+                            connection.getServerName(), rootMessage(error)));
+                    return;
+                }
+                resultCache.invalidate(connection.getServerName());
+                logger.info("Tool list of server {} changed: {} tools (catalog version {})",
+                    connection.getServerName(), snapshot.entries().size(), snapshot.version());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Probe a configured server for the number of tools it currently exposes
+     * 
+     * Uses the server's own MCP client when it can be identified, otherwise
+     * falls back to discovering tools across all configured clients.
+     * The server is only listed again while its catalog is empty; a successful
+     * probe primes the catalog.
+     * 
+     * @return Number of tools, or 0 if the server is not ready yet
+     */
+    public int probeToolCount(String serverName) {
+        ServerConnection connection = connections.get(serverName);
+        if (connection == null) {
+            return 0;
+        }
+        McpSyncClient client = connection.getClient();
+        McpAsyncClient asyncClient = connection.getAsyncClient();
+        if ((client != null && !client.isInitialized()) || (asyncClient != null && !asyncClient.isInitialized())) {
+            return 0;
+        }
+        if (!hasToolSource(connection)) {
+            return 0;
+        }
+        ToolRegistry.Snapshot snapshot = connection.getToolRegistry().snapshot();
+        // A restored catalog only counts while the server is starting; once started it must be reconciled
+        return (snapshot.entries().isEmpty() || isStale(connection, snapshot) ? discoverTools(connection) : snapshot)
+            .entries().size();
+    }
+
     /**
      * Get detailed description of a tool
      */
     public String getToolDescription(String toolName) {
-        if (!isConnected()) {
-            throw new IllegalStateException("Not connected to any MCP server");
-        }
+        return getToolDescription(requireCurrentServer(), toolName);
+    }
+
+    /**
+     * Get detailed description of a tool on a specific server
+     */
+    public String getToolDescription(String serverName, String toolName) {
+        ServerConnection connection = requireConnection(serverName);
 
         try {
-            if (toolCallbackProvider != null) {
-                ToolCallback[] callbacks = toolCallbackProvider.getToolCallbacks();
-                for (ToolCallback callback : callbacks) {
-                    String cleanedName = extractToolNameFromCallback(callback);
-                    String fullName = callback.getToolDefinition().name();
-                    
-                    // Match either the cleaned name or the full name
-                    if (toolName.equals(cleanedName) || toolName.equals(fullName)) {
-                        ToolDefinition toolDefinition = callback.getToolDefinition();
-                        if (toolDefinition != null) {
-                            return String.format("Tool: %s\nDescription: %s\nInput Schema: %s", 
-                                cleanedName,  // Show cleaned name in description
-                                toolDefinition.description(), 
-                                toolDefinition.inputSchema());
-                        } else {
-                            return String.format("Tool: %s\nDescription: MCP tool available via Spring AI Client\nCallback: %s", 
-                                cleanedName, callback.getClass().getSimpleName());
-                        }
+            if (hasToolSource(connection)) {
+                ToolRegistry.ToolEntry entry = findTool(connection, toolName);
+                if (entry != null) {
+                    ToolDefinition toolDefinition = entry.definition();
+                    if (toolDefinition != null) {
+                        return String.format("Tool: %s\nDescription: %s\nInput Schema: %s", 
+                            entry.name(),  // Show cleaned name in description
+                            toolDefinition.description(), 
+                            toolDefinition.inputSchema());
+                    } else {
+                        return String.format("Tool: %s\nDescription: MCP tool available via Spring AI Client\nCallback: %s", 
+                            entry.name(), entry.callback().getClass().getSimpleName());
                     }
                 }
             }
@@ -232,62 +542,520 @@ public class SpringAiMcpClientManager {
         }
     }
 
+    /**
+     * Get the indexed entry (definition and compiled schema) of a tool on the current server
+     * 
+     * @return the entry, or empty if the tool does not exist
+     */
+    public Optional<ToolRegistry.ToolEntry> getTool(String toolName) {
+        return getTool(requireCurrentServer(), toolName);
+    }
+
+    /**
+     * Get the indexed entry (definition and compiled schema) of a tool on a specific server
+     * 
+     * @return the entry, or empty if the tool does not exist
+     */
+    public Optional<ToolRegistry.ToolEntry> getTool(String serverName, String toolName) {
+        ServerConnection connection = requireConnection(serverName);
+        if (!hasToolSource(connection)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(findTool(connection, toolName));
+    }
+
+    /**
+     * Get the compiled input schema of a tool on the current server
+     * 
+     * @return the schema, or empty if the tool does not exist
+     */
+    public Optional<ToolSchema> getToolSchema(String toolName) {
+        return getToolSchema(requireCurrentServer(), toolName);
+    }
+
+    /**
+     * Get the compiled input schema of a tool on a specific server
+     * 
+     * @return the schema, or empty if the tool does not exist
+     */
+    public Optional<ToolSchema> getToolSchema(String serverName, String toolName) {
+        return getTool(serverName, toolName).map(ToolRegistry.ToolEntry::schema);
+    }
+
     /**
      * Execute a tool with the given parameters using direct ToolCallback execution
      * This provides direct tool execution without LLM involvement
      */
     public String executeTool(String toolName, Map<String, Object> parameters) {
-        if (!isConnected()) {
-            throw new IllegalStateException("Not connected to any MCP server");
+        return executeTool(requireCurrentServer(), toolName, parameters);
+    }
+
+    /**
+     * Execute a tool on a specific connected server
+     * 
+     * @return the result rendered as text (see ToolResults.text), or a "Tool not found" message
+     */
+    public String executeTool(String serverName, String toolName, Map<String, Object> parameters) {
+        ServerConnection connection = requireConnection(serverName);
+        if (!hasToolSource(connection)) {
+            return "Spring AI MCP Client not available. Please ensure proper configuration.";
+        }
+        
+        // Find the specific tool by cleaned name or full name
+        ToolRegistry.ToolEntry entry = findTool(connection, toolName);
+        if (entry == null) {
+            return "Tool not found: " + toolName;
         }
+        return ToolResults.text(callTool(connection, entry, parameters));
+    }
 
+    /**
+     * Call a tool on the current server and return the server's structured result
+     */
+    public McpSchema.CallToolResult callTool(String toolName, Map<String, Object> parameters) {
+        return callTool(requireCurrentServer(), toolName, parameters);
+    }
+
+    /**
+     * Call a tool on a specific connected server and return the server's structured result
+     * 
+     * Goes through the same result cache and call coalescing as executeTool. Failures
+     * are returned as error results rather than thrown.
+     * 
+     * @throws IllegalArgumentException if the server has no such tool
+     */
+    public McpSchema.CallToolResult callTool(String serverName, String toolName, Map<String, Object> parameters) {
+        ServerConnection connection = requireConnection(serverName);
+        ToolRegistry.ToolEntry entry = hasToolSource(connection) ? findTool(connection, toolName) : null;
+        if (entry == null) {
+            throw new IllegalArgumentException("Tool not found: " + toolName);
+        }
+        return callTool(connection, entry, parameters);
+    }
+
+    /**
+     * Call a tool on a specific connected server without blocking the caller
+     * 
+     * Servers with an async client (ASYNC client type) are called on it directly and
+     * hold no thread while the call is in flight or while it waits for a permit. Other
+     * servers are called on a virtual thread. Both paths stay within the server's
+     * concurrency limit, and result caching and call coalescing apply on both. Nothing
+     * is sent until the Mono is subscribed.
+     * 
+     * @return the server's result, or an IllegalArgumentException if the server has no such tool
+     */
+    public Mono<McpSchema.CallToolResult> callToolReactive(String serverName, String toolName,
+                                                          Map<String, Object> parameters) {
+        return Mono.defer(() -> {
+            ServerConnection connection = requireConnection(serverName);
+            if (!hasToolSource(connection)) {
+                return Mono.error(new IllegalArgumentException("Tool not found: " + toolName));
+            }
+            return catalogReactive(connection).<McpSchema.CallToolResult>flatMap(snapshot -> {
+                ToolRegistry.ToolEntry entry = snapshot.byName().get(toolName);
+                if (entry == null) {
+                    return Mono.error(new IllegalArgumentException("Tool not found: " + toolName));
+                }
+
+                McpAsyncClient client = connection.getAsyncClient();
+                if (client == null || entry.mcpName() == null) {
+                    return Mono.fromCallable(() -> callToolWithPermit(connection, entry, parameters))
+                        .subscribeOn(blockingScheduler);
+                }
+                return callToolWithPermit(connection, client, entry, parameters);
+            });
+        });
+    }
+
+    /**
+     * Take one of the server's call permits without blocking the subscribing thread
+     * 
+     * A free permit is taken right away; otherwise a virtual thread waits for one. If
+     * the subscriber cancels first, the wait is interrupted, and a permit acquired in
+     * the meantime is discarded and released.
+     */
+    private Mono<Semaphore> acquirePermit(ServerConnection connection) {
+        Semaphore permits = connection.getPermits();
+        return Mono.<Semaphore>create(sink -> {
+            if (permits.tryAcquire()) {
+                sink.success(permits);
+                return;
+            }
+            Future<?> waiter = asyncExecutor.submit(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                sink.success(permits);
+            });
+            sink.onCancel(() -> waiter.cancel(true));
+        }).doOnDiscard(Semaphore.class, Semaphore::release);
+    }
+
+    private McpSchema.CallToolResult callToolWithPermit(ServerConnection connection, ToolRegistry.ToolEntry entry,
+                                                        Map<String, Object> parameters) throws InterruptedException {
+        Semaphore permits = connection.getPermits();
+        permits.acquire();
         try {
-            if (toolCallbackProvider == null) {
-                return "Spring AI MCP Client not available. Please ensure proper configuration.";
+            return callTool(connection, entry, parameters);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Call a tool on an async client within the server's concurrency limit
+     * 
+     * Used by the reactive and the synchronous entry points alike, so blocking callers
+     * on ASYNC connections count against max-concurrency-per-server too.
+     */
+    private Mono<McpSchema.CallToolResult> callToolWithPermit(ServerConnection connection, McpAsyncClient client,
+                                                              ToolRegistry.ToolEntry entry, Map<String, Object> parameters) {
+        return Mono.usingWhen(acquirePermit(connection),
+            permit -> callTool(connection, client, entry, parameters),
+            permit -> Mono.fromRunnable(permit::release));
+    }
+
+    /**
+     * Non-blocking counterpart of callTool for servers with an async client
+     */
+    private Mono<McpSchema.CallToolResult> callTool(ServerConnection connection, McpAsyncClient client,
+                                                    ToolRegistry.ToolEntry entry, Map<String, Object> parameters) {
+        String serverName = connection.getServerName();
+        String matchedToolName = entry.name();
+        boolean cacheable = resultCache.isCacheable(matchedToolName);
+        ToolCallKey callKey = cacheable || callCoalescer.isEnabled()
+            ? ToolCallKey.of(serverName, matchedToolName, parameters)
+            : null;
+
+        return Mono.defer(() -> {
+            ToolExecutionEvent event = new ToolExecutionEvent();
+            event.begin();
+            connection.beginCall();
+            boolean[] success = {false};
+
+            McpSchema.CallToolResult cached = cacheable ? resultCache.get(callKey) : null;
+            Mono<McpSchema.CallToolResult> result;
+            if (cached != null) {
+                result = Mono.just(cached);
+            } else {
+                recordRequest(event, parameters);
+                Mono<McpSchema.CallToolResult> call = callKey != null
+                    ? callCoalescer.executeReactive(callKey, () -> invokeTool(connection, client, entry, parameters))
+                    : invokeTool(connection, client, entry, parameters);
+                result = call.doOnNext(value -> {
+                    if (cacheable && !ToolResults.isError(value)) {
+                        resultCache.put(callKey, value);
+                    }
+                });
             }
+
+            return result
+                .doOnNext(value -> {
+                    success[0] = !ToolResults.isError(value);
+                    event.responseChars = ToolResults.charCount(value);
+                })
+                .doFinally(signal -> {
+                    connection.endCall(success[0]);
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.serverName = serverName;
+                        event.toolName = matchedToolName;
+                        event.success = success[0];
+                        event.commit();
+                    }
+                });
+        });
+    }
+
+    private McpSchema.CallToolResult callTool(ServerConnection connection, ToolRegistry.ToolEntry entry,
+                                              Map<String, Object> parameters) {
+        McpAsyncClient asyncClient = connection.getAsyncClient();
+        if (asyncClient != null && entry.mcpName() != null) {
+            return await(callToolWithPermit(connection, asyncClient, entry, parameters));
+        }
+        String serverName = connection.getServerName();
+        ToolExecutionEvent event = new ToolExecutionEvent();
+        event.begin();
+        connection.beginCall();
+        boolean success = false;
+        try {
+            String matchedToolName = entry.name();
+            boolean cacheable = resultCache.isCacheable(matchedToolName);
+            ToolCallKey callKey = cacheable || callCoalescer.isEnabled()
+                ? ToolCallKey.of(serverName, matchedToolName, parameters)
+                : null;
             
-            // Find the specific tool callback by matching either cleaned name or full name
-            ToolCallback[] callbacks = toolCallbackProvider.getToolCallbacks();
-            ToolCallback targetCallback = null;
-            String matchedToolName = null;
-            
-            for (ToolCallback callback : callbacks) {
-                String cleanedName = extractToolNameFromCallback(callback);
-                String fullName = callback.getToolDefinition().name();
-                
-                // Match either the cleaned name or the full name
-                if (toolName.equals(cleanedName) || toolName.equals(fullName)) {
-                    targetCallback = callback;
-                    matchedToolName = cleanedName;
-                    break;
+            // Serve repeated idempotent calls from the result cache when enabled for this tool
+            if (cacheable) {
+                McpSchema.CallToolResult cached = resultCache.get(callKey);
+                if (cached != null) {
+                    success = true;
+                    return cached;
                 }
             }
             
-            if (targetCallback == null) {
-                return "Tool not found: " + toolName;
+            // Identical concurrent calls share one round trip when coalescing is enabled
+            McpSchema.CallToolResult result = callKey != null
+                ? callCoalescer.execute(callKey, () -> invokeTool(connection, entry, parameters, event))
+                : invokeTool(connection, entry, parameters, event);
+            
+            success = !ToolResults.isError(result);
+            event.responseChars = ToolResults.charCount(result);
+            if (success && cacheable) {
+                resultCache.put(callKey, result);
             }
+            return result;
             
-            try {
-                // Convert parameters to JSON string for the callback
+        } catch (Exception e) {
+            logger.error("Failed to execute tool: {} with parameters: {}", entry.name(), parameters, e);
+            throw new RuntimeException("Failed to execute tool: " + e.getMessage(), e);
+        } finally {
+            connection.endCall(success);
+            event.end();
+            if (event.shouldCommit()) {
+                event.serverName = serverName;
+                event.toolName = entry.name();
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Send a resolved tool call to the server, recording its metrics
+     * 
+     * Tools indexed from the server's MCP client are called on that client with the
+     * argument map as is. Tools only known through a Spring AI callback (no client of
+     * their own) go through the callback, which takes the arguments as JSON text.
+     * 
+     * @return the server's result, or an error result if the call failed
+     */
+    private McpSchema.CallToolResult invokeTool(ServerConnection connection, ToolRegistry.ToolEntry entry,
+                                                Map<String, Object> parameters, ToolExecutionEvent event) {
+        String serverName = connection.getServerName();
+        String matchedToolName = entry.name();
+        long callStart = toolCallMetrics.callStarted(serverName, matchedToolName);
+        boolean success = false;
+        try {
+            McpSyncClient client = awaitClient(connection);
+            McpSchema.CallToolResult result;
+            if (client != null && entry.mcpName() != null) {
+                recordRequest(event, parameters);
+                result = client.callTool(new McpSchema.CallToolRequest(entry.mcpName(),
+                    parameters != null ? parameters : Map.of()));
+            } else {
+                long serializationStart = System.nanoTime();
                 String jsonParams = convertParametersToJson(parameters);
+                event.serializationNanos = System.nanoTime() - serializationStart;
+                event.requestBytes = ParameterSerializer.utf8Length(jsonParams);
                 
-                // Execute the tool directly via the callback
                 // This is the "user-controlled tool execution" approach from Spring AI docs
-                Object result = targetCallback.call(jsonParams);
-                
-                return result != null ? result.toString() : "Tool executed successfully (no result)";
-                
-            } catch (Exception e) {
-                logger.error("Error executing tool directly: {}", matchedToolName, e);
-                return "Error executing tool: " + e.getMessage();
+                Object text = entry.callback().call(jsonParams);
+                result = new McpSchema.CallToolResult(
+                    text != null ? text.toString() : "Tool executed successfully (no result)", false);
             }
             
+            success = !ToolResults.isError(result);
+            return result;
+            
         } catch (Exception e) {
-            logger.error("Failed to execute tool: {} with parameters: {}", toolName, parameters, e);
-            throw new RuntimeException("Failed to execute tool: " + e.getMessage(), e);
+            logger.error("Error executing tool directly: {} on {}", matchedToolName, serverName, e);
+            return ToolResults.error(e.getMessage());
+        } finally {
+            toolCallMetrics.callFinished(serverName, matchedToolName, callStart, success);
         }
     }
 
+    /**
+     * Record the size of the JSON arguments of a direct client call on its event
+     * 
+     * The MCP SDK serializes the argument map itself, so while the event is being
+     * recorded the map is serialized once more, without building the text, to measure it.
+     */
+    private void recordRequest(ToolExecutionEvent event, Map<String, Object> parameters) {
+        if (!event.isEnabled()) {
+            return;
+        }
+        long serializationStart = System.nanoTime();
+        event.requestBytes = parameterSerializer.serializedSize(parameters);
+        event.serializationNanos = System.nanoTime() - serializationStart;
+    }
+
+    /**
+     * Send a resolved tool call on a server's async client, recording its metrics
+     * 
+     * @return the server's result, or an error result if the call failed
+     */
+    private Mono<McpSchema.CallToolResult> invokeTool(ServerConnection connection, McpAsyncClient client,
+                                                      ToolRegistry.ToolEntry entry, Map<String, Object> parameters) {
+        String serverName = connection.getServerName();
+        String matchedToolName = entry.name();
+        return Mono.defer(() -> {
+            long callStart = toolCallMetrics.callStarted(serverName, matchedToolName);
+            boolean[] success = {false};
+            return client.callTool(new McpSchema.CallToolRequest(entry.mcpName(),
+                    parameters != null ? parameters : Map.of()))
+                .onErrorResume(e -> {
+                    logger.error("Error executing tool directly: {} on {}", matchedToolName, serverName, e);
+                    return Mono.just(ToolResults.error(rootMessage(e)));
+                })
+                .doOnNext(result -> success[0] = !ToolResults.isError(result))
+                .doFinally(signal -> toolCallMetrics.callFinished(serverName, matchedToolName, callStart, success[0]));
+        });
+    }
+
+    /**
+     * Execute a tool asynchronously on a virtual thread
+     * 
+     * At most {@code mcp.client.async.max-concurrency-per-server} calls run against
+     * the same server at once; additional calls wait for a free slot without
+     * occupying a platform thread.
+     */
+    public CompletableFuture<String> executeToolAsync(String toolName, Map<String, Object> parameters) {
+        String serverName = currentServerName;
+        if (serverName == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Not connected to any MCP server"));
+        }
+        return executeToolAsync(serverName, toolName, parameters);
+    }
+
+    /**
+     * Execute a tool asynchronously on a specific connected server
+     */
+    public CompletableFuture<String> executeToolAsync(String serverName, String toolName, Map<String, Object> parameters) {
+        ServerConnection connection = connections.get(serverName);
+        if (connection == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Not connected to MCP server: " + serverName));
+        }
+        if (connection.getAsyncClient() != null) {
+            return callToolReactive(serverName, toolName, parameters)
+                .map(ToolResults::text)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(e.getMessage()))
+                .toFuture();
+        }
+
+        Semaphore permits = connection.getPermits();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return executeTool(serverName, toolName, parameters);
+            } finally {
+                permits.release();
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * Execute a tool asynchronously, failing with a TimeoutException if it takes longer than the timeout
+     */
+    public CompletableFuture<String> executeToolAsync(String toolName, Map<String, Object> parameters, Duration timeout) {
+        return executeToolAsync(toolName, parameters).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Execute a batch of tool calls concurrently with bounded parallelism
+     * 
+     * The calls run as a reactive pipeline: at most parallelism calls are in flight,
+     * and the next invocation is only requested when one completes, so large batches
+     * are never all submitted at once. Results are handed to the listener as they
+     * become available, either in completion order or, when preserveOrder is set, in
+     * submission order. The listener is never invoked concurrently. Blocks until every
+     * call has finished.
+     * 
+     * @param invocations Calls to execute
+     * @param parallelism Maximum number of calls in flight at once
+     * @param preserveOrder Deliver results in submission order instead of completion order
+     * @param listener Receives each call result
+     * @return Latency and throughput summary for the batch
+     */
+    public BatchSummary executeBatch(List<ToolInvocation> invocations, int parallelism,
+                                     boolean preserveOrder, Consumer<BatchCallResult> listener) {
+        String serverName = requireCurrentServer();
+        BatchCallResult[] results = new BatchCallResult[invocations.size()];
+
+        long batchStart = System.nanoTime();
+        executeBatchReactive(serverName, invocations, parallelism, preserveOrder)
+            .doOnNext(result -> {
+                results[result.index()] = result;
+                listener.accept(result);
+            })
+            .blockLast();
+        long wallNanos = System.nanoTime() - batchStart;
+
+        return summarize(results, wallNanos);
+    }
+
+    /**
+     * Execute a batch of tool calls on a server as a Flux of call results
+     * 
+     * Concurrency is bounded with flatMap (flatMapSequential when preserveOrder is
+     * set), which also applies backpressure: invocations are pulled only as calls
+     * complete and the subscriber requests more results. Failed calls are emitted as
+     * unsuccessful results rather than errors.
+     */
+    public Flux<BatchCallResult> executeBatchReactive(String serverName, List<ToolInvocation> invocations,
+                                                      int parallelism, boolean preserveOrder) {
+        Function<Integer, Mono<BatchCallResult>> call = index -> {
+            ToolInvocation invocation = invocations.get(index);
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return callToolReactive(serverName, invocation.toolName(), invocation.parameters())
+                    .map(result -> new BatchCallResult(index, invocation.toolName(), ToolResults.text(result),
+                        !ToolResults.isError(result), System.nanoTime() - start))
+                    .onErrorResume(error -> Mono.just(new BatchCallResult(index, invocation.toolName(),
+                        rootMessage(error), false, System.nanoTime() - start)));
+            });
+        };
+
+        int concurrency = Math.max(1, parallelism);
+        Flux<Integer> indexes = Flux.range(0, invocations.size());
+        return preserveOrder
+            ? indexes.flatMapSequential(call, concurrency)
+            : indexes.flatMap(call, concurrency);
+    }
+
+    /**
+     * Get the per-tool and per-server call metrics
+     */
+    public ToolCallMetrics getToolCallMetrics() {
+        return toolCallMetrics;
+    }
+
+    /**
+     * Get the tool result cache
+     */
+    public ToolResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Get the coalescer for identical concurrent tool calls
+     */
+    public ToolCallCoalescer getCallCoalescer() {
+        return callCoalescer;
+    }
+
+    /**
+     * Get the pool of warm server processes
+     */
+    public ServerProcessPool getProcessPool() {
+        return processPool;
+    }
+
+    /**
+     * Get the configured per-server concurrency cap for async invocations
+     */
+    public int getMaxConcurrencyPerServer() {
+        return maxConcurrencyPerServer;
+    }
+
     /**
      * Execute tools via natural language using ChatModel (Future Enhancement)
      * This is a placeholder for future LLM integration using the user-controlled tool execution pattern
@@ -323,22 +1091,47 @@ public class SpringAiMcpClientManager {
             return "Not connected to any server";
         }
 
+        String serverName = currentServerName;
         try {
-            List<String> toolNames = listToolNames();
+            List<String> toolNames = listToolNames(serverName);
             String implementationStatus = getImplementationStatus();
 
-            return String.format(
+            StringBuilder info = new StringBuilder(String.format(
                 "Connected to: %s%n" +
                 "Available Tools: %d%n" +
                 "Tools: %s%n" +
                 "Connection State: %s%n" +
                 "Implementation: %s",
-                currentServerName,
+                serverName,
                 toolNames.size(),
                 toolNames.isEmpty() ? "None (check configuration)" : String.join(", ", toolNames),
-                getConnectionState(),
+                getConnectionState(serverName),
                 implementationStatus
-            );
+            ));
+
+            info.append(String.format("%n%nConnections (%d):", connections.size()));
+            for (ServerConnection connection : getConnections()) {
+                long readyNanos = connection.getTimeToReadyNanos();
+                ToolRegistry.Snapshot catalog = connection.getToolRegistry().snapshot();
+                info.append(String.format("%n  %s %-20s %-13s tools=%d catalog=v%d%s in-flight=%d calls=%d failed=%d ready=%s",
+                    connection.getServerName().equals(serverName) ? "*" : " ",
+                    connection.getServerName(),
+                    connection.getState(),
+                    catalog.entries().size(),
+                    catalog.version(),
+                    catalog.cached() ? "(cached)" : "",
+                    connection.getInFlight(),
+                    connection.getCompletedCalls(),
+                    connection.getFailedCalls(),
+                    readyNanos >= 0 ? (readyNanos / 1_000_000) + "ms" : "-"));
+            }
+
+            ServerProcessPool.PoolStats pool = processPool.stats();
+            if (pool.enabled()) {
+                info.append(String.format("%n%nProcess pool: idle=%d/%d spawned=%d reused=%d evicted=%d",
+                    pool.idle(), pool.maxSize(), pool.spawned(), pool.reused(), pool.evicted()));
+            }
+            return info.toString();
             
         } catch (Exception e) {
             logger.error("Failed to get server info", e);
@@ -346,8 +1139,8 @@ public class SpringAiMcpClientManager {
                 "Connected to: %s%n" +
                 "Connection State: %s%n" +
                 "Error getting server info: %s",
-                currentServerName,
-                getConnectionState(),
+                serverName,
+                getConnectionState(serverName),
                 e.getMessage()
             );
         }
@@ -402,102 +1195,459 @@ public class SpringAiMcpClientManager {
     public void shutdown() {
         logger.info("Shutting down MCP client manager");
         
-        if (isConnected()) {
-            disconnect();
+        for (String serverName : new ArrayList<>(connections.keySet())) {
+            disconnect(serverName);
         }
         
         currentServerName = null;
+        asyncExecutor.shutdownNow();
+        processPool.shutdown();
         logger.info("MCP client manager shutdown complete");
     }
 
     // Private helper methods
 
-    private boolean checkForServerConnection(String serverName) {
+    private boolean checkForServerConnection(ServerConnection connection) {
         try {
-            if (toolCallbackProvider != null) {
-                ToolCallback[] callbacks = toolCallbackProvider.getToolCallbacks();
-                return callbacks != null && callbacks.length > 0;
+            McpSyncClient client = connection.getClient();
+            if (client != null) {
+                return client.isInitialized();
             }
-            return false;
+            McpAsyncClient asyncClient = connection.getAsyncClient();
+            if (asyncClient != null) {
+                return asyncClient.isInitialized();
+            }
+            return toolCallbackProvider != null;
         } catch (Exception e) {
             logger.debug("Error checking for server connection: {}", e.getMessage());
             return false;
         }
     }
 
-    private String extractToolNameFromCallback(ToolCallback callback) {
+    private String requireCurrentServer() {
+        String serverName = currentServerName;
+        if (serverName == null) {
+            throw new IllegalStateException("Not connected to any MCP server");
+        }
+        return serverName;
+    }
+
+    private ServerConnection requireConnection(String serverName) {
+        ServerConnection connection = connections.get(serverName);
+        if (connection == null) {
+            throw new IllegalStateException("Not connected to MCP server: " + serverName);
+        }
+        return connection;
+    }
+
+    private boolean hasToolSource(ServerConnection connection) {
+        return connection.getClient() != null || connection.getAsyncClient() != null
+            || connection.getPendingClient() != null || toolCallbackProvider != null;
+    }
+
+    /**
+     * The connection's client, waiting for it if its process is still starting
+     * 
+     * @throws IllegalStateException if the process failed to start
+     */
+    private McpSyncClient awaitClient(ServerConnection connection) {
+        CompletableFuture<McpSyncClient> pending = connection.getPendingClient();
+        if (pending == null) {
+            requireStarted(connection);
+            return connection.getClient();
+        }
         try {
-            // Use the proper Spring AI approach: get the ToolDefinition and extract the name
-            ToolDefinition toolDefinition = callback.getToolDefinition();
-            if (toolDefinition != null) {
-                String fullToolName = toolDefinition.name();
-                if (fullToolName != null && !fullToolName.isEmpty()) {
-                    // Clean up the tool name by removing Spring AI MCP prefixes
-                    String cleanedName = cleanToolName(fullToolName);
-                    logger.debug("Extracted tool name '{}' -> cleaned to '{}'", fullToolName, cleanedName);
-                    return cleanedName;
-                }
+            return pending.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException(rootMessage(e), e);
+        }
+    }
+
+    /**
+     * Restore a runtime server's saved catalog and start its process in the background
+     * 
+     * Only used for servers started by the client (not configured in Spring AI) whose
+     * JAR is unchanged since the catalog was saved. Once the process is ready the
+     * catalog is reconciled with the live tool list.
+     * 
+     * @return true if the connection was started from the catalog cache
+     */
+    private boolean startFromCatalog(ServerConnection connection) {
+        if (connection.getPendingClient() != null) {
+            return true;
+        }
+        String serverName = connection.getServerName();
+        if (connection.getClient() != null || !catalogCache.isEnabled()
+            || findSyncClient(serverName) != null || findAsyncClient(serverName) != null) {
+            return false;
+        }
+        Path jarPath = Path.of(connection.getJarPath());
+        if (!Files.isRegularFile(jarPath)) {
+            return false;
+        }
+        Optional<List<McpSchema.Tool>> tools = catalogCache.load(serverName, jarPath);
+        if (tools.isEmpty()) {
+            return false;
+        }
+
+        connection.getToolRegistry().restore(tools.get());
+        ServerProcessPool.LaunchConfig launch = ServerProcessPool.LaunchConfig.forJar(connection.getJarPath());
+        connection.setLaunchConfig(launch);
+        dynamicConfigService.addServer(serverName, connection.getJarPath());
+        CompletableFuture<McpSyncClient> pending =
+            CompletableFuture.supplyAsync(() -> processPool.acquire(launch), asyncExecutor);
+        connection.setPendingClient(pending);
+        pending.whenComplete((client, error) -> onProcessStarted(connection, launch, client, error));
+        return true;
+    }
+
+    /**
+     * Attach a process started in the background and reconcile the restored catalog
+     */
+    private void onProcessStarted(ServerConnection connection, ServerProcessPool.LaunchConfig launch,
+                                  McpSyncClient client, Throwable error) {
+        String serverName = connection.getServerName();
+        synchronized (connection) {
+            if (error != null) {
+                logger.warn("Failed to start MCP server {}: {}", serverName, rootMessage(error));
+                // Drop the restored tools: none of them can be called now
+                connection.setStartError(rootMessage(error));
+                connection.getToolRegistry().clear();
+                connection.setPendingClient(null);
+                connection.setLaunchConfig(null);
+                dynamicConfigService.removeServer(serverName);
+                connection.setState(ConnectionState.ERROR);
+                return;
             }
-            
-            // Fallback: use the class name or hash
-            String fallbackName = "tool_" + System.identityHashCode(callback);
-            logger.debug("Using fallback tool name: {}", fallbackName);
-            return fallbackName;
-            
+            // Disconnected while the process was starting
+            if (connection.getLaunchConfig() != launch) {
+                processPool.release(launch, client);
+                return;
+            }
+            connection.setClient(client);
+            connection.setPendingClient(null);
+        }
+
+        try {
+            ToolRegistry.Snapshot snapshot = discoverTools(connection);
+            logger.info("Server {} ready, catalog reconciled: {} tools", serverName, snapshot.entries().size());
         } catch (Exception e) {
-            logger.debug("Error extracting tool name from callback: {}", e.getMessage());
-            return "unknown_tool";
+            logger.warn("Failed to list tools of {}, keeping the cached catalog until it can be listed: {}",
+                serverName, e.getMessage());
         }
+        connection.setState(ConnectionState.CONNECTED);
     }
 
     /**
-     * Clean up Spring AI MCP generated tool names by removing predictable prefixes
-     * Pattern: [client-name]_[server-name]_[method-name] -> [method-name]
+     * Persist the catalog of a server started by the client, keyed by its JAR
      */
-    private String cleanToolName(String fullToolName) {
-        try {
-            // Spring AI MCP generates names like: generic_mcp_client_generic_getHello
-            // We want to extract just: getHello
-            
-            // Split by underscores and take the last part (method name)
-            String[] parts = fullToolName.split("_");
-            if (parts.length >= 3) {
-                // Return the last part which should be the actual method name
-                String methodName = parts[parts.length - 1];
-                logger.debug("Cleaning tool name: '{}' -> '{}'", fullToolName, methodName);
-                return methodName;
+    private void saveCatalog(ServerConnection connection, List<McpSchema.Tool> tools) {
+        if (connection.getLaunchConfig() != null) {
+            catalogCache.save(connection.getServerName(), Path.of(connection.getJarPath()), tools);
+        }
+    }
+
+    /**
+     * The server's current catalog, listing its tools only if it was never listed
+     * 
+     * A restored catalog that could not be reconciled when the server started is
+     * listed again; if that fails too, the restored catalog is kept.
+     * 
+     * @throws IllegalStateException if the server's process failed to start
+     */
+    private ToolRegistry.Snapshot catalog(ServerConnection connection) {
+        requireStarted(connection);
+        ToolRegistry.Snapshot snapshot = connection.getToolRegistry().snapshot();
+        if (snapshot.version() == 0) {
+            return discoverTools(connection);
+        }
+        if (isStale(connection, snapshot)) {
+            try {
+                return discoverTools(connection);
+            } catch (Exception e) {
+                logger.debug("Failed to reconcile the cached catalog of {}: {}",
+                    connection.getServerName(), e.getMessage());
             }
-            
-            // If the pattern doesn't match expected format, return as-is
-            logger.debug("Tool name '{}' doesn't match expected pattern, using as-is", fullToolName);
-            return fullToolName;
-            
-        } catch (Exception e) {
-            logger.debug("Error cleaning tool name '{}': {}", fullToolName, e.getMessage());
-            return fullToolName;
         }
+        return snapshot;
+    }
+
+    /**
+     * Whether a snapshot is a restored catalog of a server that has finished starting
+     */
+    private static boolean isStale(ServerConnection connection, ToolRegistry.Snapshot snapshot) {
+        return snapshot.cached() && connection.getPendingClient() == null && connection.getClient() != null;
+    }
+
+    private static void requireStarted(ServerConnection connection) {
+        String startError = connection.getStartError();
+        if (startError != null) {
+            throw new IllegalStateException("Server " + connection.getServerName() + " failed to start: " + startError);
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of catalog, listing on the async client or a virtual thread
+     */
+    private Mono<ToolRegistry.Snapshot> catalogReactive(ServerConnection connection) {
+        ToolRegistry.Snapshot snapshot = connection.getToolRegistry().snapshot();
+        if (connection.getStartError() == null && snapshot.version() > 0 && !isStale(connection, snapshot)) {
+            return Mono.just(snapshot);
+        }
+        McpAsyncClient asyncClient = connection.getAsyncClient();
+        if (asyncClient != null) {
+            return discoverTools(connection, asyncClient);
+        }
+        return Mono.fromCallable(() -> catalog(connection)).subscribeOn(blockingScheduler);
+    }
+
+    /**
+     * Re-list the tools from the Spring AI MCP Client and publish a fresh index
+     */
+    private ToolRegistry.Snapshot discoverTools(ServerConnection connection) {
+        McpAsyncClient asyncClient = connection.getAsyncClient();
+        if (asyncClient != null) {
+            return await(discoverTools(connection, asyncClient));
+        }
+
+        ToolDiscoveryEvent event = new ToolDiscoveryEvent();
+        event.begin();
+
+        McpSyncClient client = awaitClient(connection);
+        ToolRegistry.Snapshot snapshot;
+        if (client != null) {
+            List<McpSchema.Tool> tools = listAllTools(client);
+            snapshot = connection.getToolRegistry().refresh(client, tools);
+            saveCatalog(connection, tools);
+        } else {
+            snapshot = connection.getToolRegistry().refresh(toolCallbackProvider.getToolCallbacks());
+        }
+        discovered(connection, snapshot, event);
+        return snapshot;
+    }
+
+    /**
+     * Re-list the tools of a server on its async client and publish a fresh index
+     */
+    private Mono<ToolRegistry.Snapshot> discoverTools(ServerConnection connection, McpAsyncClient client) {
+        return Mono.defer(() -> {
+            ToolDiscoveryEvent event = new ToolDiscoveryEvent();
+            event.begin();
+            return listAllTools(client)
+                .map(tools -> connection.getToolRegistry().refresh(client, tools))
+                .doOnNext(snapshot -> discovered(connection, snapshot, event));
+        });
+    }
+
+    private static void discovered(ServerConnection connection, ToolRegistry.Snapshot snapshot,
+                                   ToolDiscoveryEvent event) {
+        logger.debug("Found {} tools for server {}", snapshot.entries().size(), connection.getServerName());
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.serverName = connection.getServerName();
+            event.toolCount = snapshot.entries().size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Wait for a reactive result from a synchronous entry point
+     * 
+     * The call is subscribed on a virtual thread, and on a Reactor non-blocking thread
+     * the result is joined rather than block()ed, which would throw there. Reactive
+     * callers use callToolReactive and catalogReactive instead and never get here.
+     */
+    private <T> T await(Mono<T> result) {
+        Mono<T> offloaded = result.subscribeOn(blockingScheduler);
+        if (Schedulers.isInNonBlockingThread()) {
+            try {
+                return offloaded.toFuture().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        return offloaded.block();
+    }
+
+    /**
+     * List every tool of a server, following pagination cursors
+     */
+    private static List<McpSchema.Tool> listAllTools(McpSyncClient client) {
+        McpSchema.ListToolsResult page = client.listTools();
+        if (page.nextCursor() == null) {
+            return page.tools() != null ? page.tools() : List.of();
+        }
+        List<McpSchema.Tool> tools = new ArrayList<>(page.tools() != null ? page.tools() : List.of());
+        while (page.nextCursor() != null) {
+            page = client.listTools(page.nextCursor());
+            if (page.tools() != null) {
+                tools.addAll(page.tools());
+            }
+        }
+        return tools;
+    }
+
+    /**
+     * List every tool of a server on its async client, requesting the next page as each one arrives
+     */
+    private static Mono<List<McpSchema.Tool>> listAllTools(McpAsyncClient client) {
+        return client.listTools()
+            .expand(page -> page.nextCursor() != null ? client.listTools(page.nextCursor()) : Mono.empty())
+            .flatMapIterable(page -> page.tools() != null ? page.tools() : List.of())
+            .collectList();
+    }
+
+    /**
+     * Find the async MCP client created for a configured connection (ASYNC client type)
+     */
+    private McpAsyncClient findAsyncClient(String serverName) {
+        String suffix = " - " + serverName;
+        for (McpAsyncClient client : mcpAsyncClients) {
+            var clientInfo = client.getClientInfo();
+            if (clientInfo != null && clientInfo.name() != null && clientInfo.name().endsWith(suffix)) {
+                return client;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the MCP client created for a configured connection
+     * Spring AI names each client "[client-name] - [connection-name]"
+     */
+    private McpSyncClient findSyncClient(String serverName) {
+        String suffix = " - " + serverName;
+        for (McpSyncClient client : mcpSyncClients) {
+            var clientInfo = client.getClientInfo();
+            if (clientInfo != null && clientInfo.name() != null && clientInfo.name().endsWith(suffix)) {
+                return client;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Pick the MCP client for a connection
+     * 
+     * Servers configured in Spring AI use their configured client. Other servers are
+     * started at runtime: they take a process from the pool (a warm one when pooling
+     * is enabled, otherwise a freshly spawned one) and are registered as dynamic
+     * servers. A connection that already holds a pooled process keeps it.
+     */
+    private McpSyncClient resolveClient(ServerConnection connection) {
+        McpSyncClient configured = findSyncClient(connection.getServerName());
+        if (configured != null) {
+            return configured;
+        }
+        if (connection.getLaunchConfig() != null) {
+            return connection.getClient();
+        }
+
+        if (!Files.isRegularFile(Path.of(connection.getJarPath()))) {
+            throw new IllegalStateException("Server JAR not found: " + connection.getJarPath());
+        }
+        ServerProcessPool.LaunchConfig launch = ServerProcessPool.LaunchConfig.forJar(connection.getJarPath());
+        McpSyncClient client = processPool.acquire(launch);
+        connection.setLaunchConfig(launch);
+        dynamicConfigService.addServer(connection.getServerName(), connection.getJarPath());
+        return client;
+    }
+
+    /**
+     * Hand a connection's process back to the pool, which keeps it warm or stops it
+     */
+    private void releaseProcess(ServerConnection connection) {
+        synchronized (connection) {
+            // A process still starting is released once it is ready (see onProcessStarted)
+            if (connection.getPendingClient() != null) {
+                connection.setPendingClient(null);
+                connection.setLaunchConfig(null);
+                dynamicConfigService.removeServer(connection.getServerName());
+                return;
+            }
+        }
+        ServerProcessPool.LaunchConfig launch = connection.getLaunchConfig();
+        McpSyncClient client = connection.getClient();
+        if (launch != null && client != null) {
+            connection.setLaunchConfig(null);
+            connection.setClient(null);
+            processPool.release(launch, client);
+            dynamicConfigService.removeServer(connection.getServerName());
+        }
+    }
+
+    /**
+     * Resolve a tool from the server's catalog; unknown tools never trigger a tools/list
+     */
+    private ToolRegistry.ToolEntry findTool(ServerConnection connection, String toolName) {
+        return catalog(connection).byName().get(toolName);
     }
 
     private String convertParametersToJson(Map<String, Object> parameters) {
-        if (parameters.isEmpty()) {
-            return "{}";
+        return parameterSerializer.toJson(parameters);
+    }
+
+    private BatchSummary summarize(BatchCallResult[] results, long wallNanos) {
+        if (results.length == 0) {
+            return new BatchSummary(0, 0, 0, wallNanos, 0, 0, 0, 0, 0.0);
         }
-        
-        StringBuilder json = new StringBuilder("{");
-        boolean first = true;
-        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-            if (!first) {
-                json.append(",");
+
+        long[] latencies = new long[results.length];
+        int succeeded = 0;
+        long sum = 0;
+        for (int i = 0; i < results.length; i++) {
+            latencies[i] = results[i].latencyNanos();
+            sum += latencies[i];
+            if (results[i].success()) {
+                succeeded++;
             }
-            json.append("\"").append(entry.getKey()).append("\":\"").append(entry.getValue()).append("\"");
-            first = false;
         }
-        json.append("}");
-        return json.toString();
+        Arrays.sort(latencies);
+
+        return new BatchSummary(
+            results.length,
+            succeeded,
+            results.length - succeeded,
+            wallNanos,
+            latencies[0],
+            percentile(latencies, 0.50),
+            percentile(latencies, 0.99),
+            latencies[latencies.length - 1],
+            (double) sum / results.length
+        );
     }
 
-    private String getImplementationStatus() {
-        if (toolCallbackProvider != null) {
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+
+    /**
+     * Check if a tool result string reports a failure rather than tool output
+     */
+    public static boolean isErrorResult(String result) {
+        return result == null
+            || result.startsWith("Tool not found")
+            || result.startsWith("Error executing tool")
+            || result.startsWith("Spring AI MCP Client not available");
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    /**
+     * Describe how tools are provided (for status output)
+     */
+    public String getImplementationStatus() {
+        if (toolCallbackProvider instanceof AsyncMcpToolCallbackProvider) {
+            return "Spring AI MCP Client (Tool Callbacks Available, ASYNC)";
+        } else if (toolCallbackProvider != null) {
             return "Spring AI MCP Client (Tool Callbacks Available)";
         } else {
             return "Spring AI MCP Client (Configuration Required)";
@@ -522,4 +1672,31 @@ public class SpringAiMcpClientManager {
         logger.warn("                - -jar");
         logger.warn("                - {}", jarPath);
     }
-}
\ No newline at end of file
+
+    /**
+     * Outcome of one call in a batch
+     * 
+     * @param index Position of the call in the submitted batch (0-based)
+     * @param toolName Tool that was invoked
+     * @param result Tool output, or the error message if the call failed
+     * @param success Whether the call completed without error
+     * @param latencyNanos Time from dispatch to completion
+     */
+    public record BatchCallResult(int index, String toolName, String result, boolean success, long latencyNanos) {
+
+        public double latencyMillis() {
+            return latencyNanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Aggregate latency and throughput statistics for a completed batch
+     */
+    public record BatchSummary(int total, int succeeded, int failed, long wallNanos,
+                               long minNanos, long p50Nanos, long p99Nanos, long maxNanos, double meanNanos) {
+
+        public double throughputPerSecond() {
+            return wallNanos > 0 ? total * 1_000_000_000.0 / wallNanos : 0.0;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical concurrent tool calls
+ *
+ * The first caller for a given server, tool and argument set executes the
+ * call; callers that arrive with the same key while it is still in flight
+ * wait for it and receive the same result instead of going to the server.
+ * Only enable this (mcp.client.coalescing.enabled) when the tools are
+ * idempotent, since concurrent identical calls then run only once.
+ */
+@Service
+public class ToolCallCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolCallCoalescer.class);
+
+    private final boolean enabled;
+    private final Map<ToolCallKey, CompletableFuture<McpSchema.CallToolResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public ToolCallCoalescer(Environment environment) {
+        this.enabled = environment.getProperty("mcp.client.coalescing.enabled", Boolean.class, false);
+        if (enabled) {
+            logger.info("Coalescing of identical concurrent tool calls enabled");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Run the call, or join an identical call that is already in flight
+     *
+     * @param key Identity of the call
+     * @param call Executes the call against the server
+     * @return the call's result, shared with every caller that joined it
+     */
+    public McpSchema.CallToolResult execute(ToolCallKey key, Supplier<McpSchema.CallToolResult> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        CompletableFuture<McpSchema.CallToolResult> own = new CompletableFuture<>();
+        CompletableFuture<McpSchema.CallToolResult> leader = inFlight.putIfAbsent(key, own);
+        if (leader != null) {
+            coalesced.increment();
+            logger.debug("Joining in-flight call to {} on {}", key.toolName(), key.serverName());
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        executed.increment();
+        try {
+            McpSchema.CallToolResult result = call.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Non-blocking variant of execute for calls made on an async MCP client
+     *
+     * Subscribers that arrive while an identical call is in flight share its result.
+     * If the leading subscription is cancelled, joined callers fail with a
+     * CancellationException.
+     */
+    public Mono<McpSchema.CallToolResult> executeReactive(ToolCallKey key, Supplier<Mono<McpSchema.CallToolResult>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        return Mono.defer(() -> {
+            CompletableFuture<McpSchema.CallToolResult> own = new CompletableFuture<>();
+            CompletableFuture<McpSchema.CallToolResult> leader = inFlight.putIfAbsent(key, own);
+            if (leader != null) {
+                coalesced.increment();
+                logger.debug("Joining in-flight call to {} on {}", key.toolName(), key.serverName());
+                return Mono.fromFuture(leader, true);
+            }
+
+            executed.increment();
+            return call.get()
+                .doOnNext(own::complete)
+                .doOnError(own::completeExceptionally)
+                .doFinally(signal -> {
+                    inFlight.remove(key, own);
+                    own.cancel(false);
+                });
+        });
+    }
+
+    public CoalescingStats stats() {
+        return new CoalescingStats(enabled, inFlight.size(), executed.sum(), coalesced.sum());
+    }
+
+    /**
+     * Point-in-time coalescing statistics
+     *
+     * @param inFlight Distinct calls currently executing
+     * @param executed Calls that went to the server
+     * @param coalesced Calls that joined an in-flight call instead
+     */
+    public record CoalescingStats(boolean enabled, int inFlight, long executed, long coalesced) {}
+}
@@ -0,0 +1,46 @@
+package com.baskettecase.mcpclient.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.util.Map;
+
+/**
+ * Identity of a tool call: server, tool and canonical arguments
+ *
+ * Arguments are rendered as JSON with map keys sorted at every level, so two
+ * calls with the same arguments in a different order share a key while values
+ * of different JSON types (1 vs "1") do not.
+ *
+ * @param arguments Canonical JSON of the call arguments
+ */
+public record ToolCallKey(String serverName, String toolName, String arguments) {
+
+    private static final ObjectWriter CANONICAL_WRITER =
+        new ObjectMapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    /**
+     * Build the key for a call
+     *
+     * @throws IllegalArgumentException if the arguments cannot be serialized
+     */
+    public static ToolCallKey of(String serverName, String toolName, Map<String, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return new ToolCallKey(serverName, toolName, "{}");
+        }
+        try {
+            return new ToolCallKey(serverName, toolName, CANONICAL_WRITER.writeValueAsString(parameters));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize parameters: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Approximate heap footprint of the key's characters
+     */
+    long sizeInBytes() {
+        return 2L * (serverName.length() + toolName.length() + arguments.length());
+    }
+}
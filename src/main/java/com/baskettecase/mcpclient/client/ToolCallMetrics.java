@@ -0,0 +1,227 @@
+package com.baskettecase.mcpclient.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-tool and per-server call metrics
+ *
+ * Records call counts, error counts, in-flight calls and an HDR latency
+ * histogram for every tool that is executed. The same measurements are
+ * published to a Micrometer registry as the {@code mcp.client.tool.calls}
+ * timer and {@code mcp.client.tool.in-flight} gauge, tagged by server and tool.
+ * A SimpleMeterRegistry is used when the application does not provide one.
+ */
+@Service
+public class ToolCallMetrics {
+
+    static final String CALLS_METER = "mcp.client.tool.calls";
+    static final String IN_FLIGHT_METER = "mcp.client.tool.in-flight";
+
+    // Latencies above this are clamped; 3 significant digits keeps error under 0.1%
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ToolKey, ToolStats> tools = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ToolCallMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public ToolCallMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Record the start of a tool call
+     *
+     * @return start timestamp to pass to {@link #callFinished}
+     */
+    public long callStarted(String serverName, String toolName) {
+        stats(serverName, toolName).inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Record the end of a tool call started with {@link #callStarted}
+     */
+    public void callFinished(String serverName, String toolName, long startNanos, boolean success) {
+        long latencyNanos = System.nanoTime() - startNanos;
+        ToolStats stats = stats(serverName, toolName);
+
+        stats.inFlight.decrementAndGet();
+        stats.calls.increment();
+        stats.totalNanos.add(latencyNanos);
+        stats.histogram.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (success) {
+            stats.successTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+        } else {
+            stats.errors.increment();
+            stats.errorTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Per-tool statistics, tools with the most total time first
+     * Tools without recorded or running calls are left out.
+     */
+    public List<CallStats> toolStats() {
+        List<CallStats> result = new ArrayList<>(tools.size());
+        tools.forEach((key, stats) -> {
+            if (stats.isActive()) {
+                result.add(stats.snapshot(key.serverName(), key.toolName()));
+            }
+        });
+        result.sort(Comparator.comparingLong(CallStats::totalNanos).reversed()
+            .thenComparing(CallStats::serverName)
+            .thenComparing(CallStats::toolName));
+        return result;
+    }
+
+    /**
+     * Per-server statistics aggregated over all tools of the server, in server name order
+     */
+    public List<CallStats> serverStats() {
+        Map<String, List<Map.Entry<ToolKey, ToolStats>>> byServer = new LinkedHashMap<>();
+        tools.entrySet().stream()
+            .filter(entry -> entry.getValue().isActive())
+            .sorted(Map.Entry.comparingByKey(Comparator.comparing(ToolKey::serverName)))
+            .forEach(entry -> byServer.computeIfAbsent(entry.getKey().serverName(), name -> new ArrayList<>()).add(entry));
+
+        List<CallStats> result = new ArrayList<>(byServer.size());
+        byServer.forEach((serverName, entries) -> {
+            Histogram merged = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+            long calls = 0;
+            long errors = 0;
+            long totalNanos = 0;
+            int inFlight = 0;
+            for (Map.Entry<ToolKey, ToolStats> entry : entries) {
+                ToolStats stats = entry.getValue();
+                merged.add(stats.histogram);
+                calls += stats.calls.sum();
+                errors += stats.errors.sum();
+                totalNanos += stats.totalNanos.sum();
+                inFlight += stats.inFlight.get();
+            }
+            result.add(CallStats.of(serverName, null, calls, errors, inFlight, totalNanos, merged));
+        });
+        return result;
+    }
+
+    /**
+     * Clear all recorded statistics
+     *
+     * Micrometer meters keep their own cumulative values and are not affected.
+     */
+    public void reset() {
+        tools.values().forEach(ToolStats::reset);
+    }
+
+    /**
+     * Registry the tool meters are published to
+     */
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    private ToolStats stats(String serverName, String toolName) {
+        return tools.computeIfAbsent(new ToolKey(serverName, toolName), this::register);
+    }
+
+    private ToolStats register(ToolKey key) {
+        ToolStats stats = new ToolStats(
+            timer(key, "success"),
+            timer(key, "error"));
+        Gauge.builder(IN_FLIGHT_METER, stats.inFlight, AtomicInteger::get)
+            .description("Tool calls currently executing")
+            .tag("server", key.serverName())
+            .tag("tool", key.toolName())
+            .register(meterRegistry);
+        return stats;
+    }
+
+    private Timer timer(ToolKey key, String outcome) {
+        return Timer.builder(CALLS_METER)
+            .description("MCP tool call latency")
+            .tag("server", key.serverName())
+            .tag("tool", key.toolName())
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.9, 0.99)
+            .register(meterRegistry);
+    }
+
+    private record ToolKey(String serverName, String toolName) {}
+
+    private static final class ToolStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Timer successTimer;
+        private final Timer errorTimer;
+
+        private ToolStats(Timer successTimer, Timer errorTimer) {
+            this.successTimer = successTimer;
+            this.errorTimer = errorTimer;
+        }
+
+        CallStats snapshot(String serverName, String toolName) {
+            return CallStats.of(serverName, toolName, calls.sum(), errors.sum(), inFlight.get(),
+                totalNanos.sum(), histogram.copy());
+        }
+
+        boolean isActive() {
+            return calls.sum() > 0 || inFlight.get() > 0;
+        }
+
+        void reset() {
+            calls.reset();
+            errors.reset();
+            totalNanos.reset();
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Point-in-time statistics for a tool, or for a whole server when toolName is null
+     *
+     * Percentiles are in nanoseconds and 0 when no calls were recorded.
+     */
+    public record CallStats(String serverName, String toolName, long calls, long errors, int inFlight,
+                            long totalNanos, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+
+        static CallStats of(String serverName, String toolName, long calls, long errors, int inFlight,
+                            long totalNanos, Histogram histogram) {
+            boolean empty = histogram.getTotalCount() == 0;
+            return new CallStats(serverName, toolName, calls, errors, inFlight, totalNanos,
+                empty ? 0 : histogram.getValueAtPercentile(50),
+                empty ? 0 : histogram.getValueAtPercentile(90),
+                empty ? 0 : histogram.getValueAtPercentile(99),
+                empty ? 0 : histogram.getMaxValue());
+        }
+
+        public double meanNanos() {
+            return calls == 0 ? 0 : (double) totalNanos / calls;
+        }
+    }
+}
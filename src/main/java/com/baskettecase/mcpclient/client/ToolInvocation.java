@@ -0,0 +1,16 @@
+package com.baskettecase.mcpclient.client;
+
+import java.util.Map;
+
+/**
+ * A single tool call request: tool name plus its parsed parameters
+ */
+public record ToolInvocation(String toolName, Map<String, Object> parameters) {
+
+    public ToolInvocation {
+        if (toolName == null || toolName.isBlank()) {
+            throw new IllegalArgumentException("Tool name is required");
+        }
+        parameters = parameters != null ? parameters : Map.of();
+    }
+}
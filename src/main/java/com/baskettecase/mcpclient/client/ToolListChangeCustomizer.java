@@ -0,0 +1,34 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.client.McpClient;
+import org.springframework.ai.mcp.customizer.McpAsyncClientCustomizer;
+import org.springframework.ai.mcp.customizer.McpSyncClientCustomizer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Forwards tools/list_changed notifications of the clients configured in Spring AI
+ * as ToolListChangedEvents, so their tool catalogs are refreshed without polling
+ */
+@Component
+public class ToolListChangeCustomizer implements McpSyncClientCustomizer, McpAsyncClientCustomizer {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ToolListChangeCustomizer(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void customize(String serverConfigurationName, McpClient.SyncSpec spec) {
+        spec.toolsChangeConsumer(tools ->
+            eventPublisher.publishEvent(new ToolListChangedEvent(serverConfigurationName, null, tools)));
+    }
+
+    @Override
+    public void customize(String serverConfigurationName, McpClient.AsyncSpec spec) {
+        spec.toolsChangeConsumer(tools -> Mono.fromRunnable(() ->
+            eventPublisher.publishEvent(new ToolListChangedEvent(serverConfigurationName, null, tools))));
+    }
+}
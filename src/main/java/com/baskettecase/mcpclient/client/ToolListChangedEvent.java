@@ -0,0 +1,19 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.List;
+
+/**
+ * Published when a server sends notifications/tools/list_changed
+ *
+ * The MCP client re-lists the tools when the notification arrives, so the event
+ * carries the new list. Clients configured in Spring AI are identified by their
+ * connection name, clients started by the process pool by the client itself.
+ *
+ * @param serverName Spring AI connection name, or null for a pooled client
+ * @param client Pooled client that received the notification, or null for a configured one
+ * @param tools Tools the server lists now
+ */
+public record ToolListChangedEvent(String serverName, McpSyncClient client, List<McpSchema.Tool> tools) {}
@@ -0,0 +1,275 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.mcp.AsyncMcpToolCallback;
+import org.springframework.ai.mcp.SyncMcpToolCallback;
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Indexed registry of the tools discovered on one MCP server
+ *
+ * Builds a hash index of the tool callbacks once per discovery, keyed by both the
+ * cleaned tool name (e.g. getHello) and the full Spring AI generated name
+ * (e.g. generic_mcp_client_generic_getHello). Each tool's input schema is compiled
+ * and its listing summary built once while indexing. The index is immutable and swapped atomically on refresh,
+ * so lookups on the invoke path are O(1) and never block. Every refresh publishes a new catalog version.
+ */
+public class ToolRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolRegistry.class);
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final AtomicLong versions = new AtomicLong();
+
+    /**
+     * Rebuild the index from a freshly discovered set of callbacks and publish it
+     * 
+     * The tools' MCP names are not known on this path, so they can only be called
+     * through their callbacks.
+     */
+    public Snapshot refresh(ToolCallback[] callbacks) {
+        if (callbacks == null || callbacks.length == 0) {
+            return publishEmpty();
+        }
+        return index(Arrays.asList(callbacks), null, false);
+    }
+
+    /**
+     * Rebuild the index from the tools listed by a server's MCP client and publish it
+     * 
+     * Entries keep each tool's MCP name, so they can be called on the client directly.
+     */
+    public Snapshot refresh(McpSyncClient client, List<McpSchema.Tool> tools) {
+        return index(tools, tool -> new SyncMcpToolCallback(client, tool), false);
+    }
+
+    /**
+     * Rebuild the index from the tools listed by a server's async MCP client and publish it
+     */
+    public Snapshot refresh(McpAsyncClient client, List<McpSchema.Tool> tools) {
+        return index(tools, tool -> new AsyncMcpToolCallback(client, tool), false);
+    }
+
+    /**
+     * Index a catalog saved by an earlier run while the server is still starting
+     * 
+     * Listings, descriptions and schemas work right away; the tools can only be called
+     * on the server's client once it is ready, and the catalog is replaced by the live
+     * list then.
+     */
+    public Snapshot restore(List<McpSchema.Tool> tools) {
+        return index(tools, tool -> new CachedToolCallback(ToolDefinition.builder()
+            .name(tool.name())
+            .description(tool.description() != null ? tool.description() : "")
+            .inputSchema(ModelOptionsUtils.toJsonString(tool.inputSchema()))
+            .build()), true);
+    }
+
+    /**
+     * Index MCP tools, keeping their MCP names, with a callback created per tool
+     */
+    private Snapshot index(List<McpSchema.Tool> tools, Function<McpSchema.Tool, ToolCallback> callbackFactory,
+                           boolean cached) {
+        if (tools == null || tools.isEmpty()) {
+            return publishEmpty();
+        }
+
+        List<ToolCallback> callbacks = new ArrayList<>(tools.size());
+        List<String> mcpNames = new ArrayList<>(tools.size());
+        for (McpSchema.Tool tool : tools) {
+            callbacks.add(callbackFactory.apply(tool));
+            mcpNames.add(tool.name());
+        }
+        return index(callbacks, mcpNames, cached);
+    }
+
+    /**
+     * @param mcpNames MCP tool names in callback order, or null if unknown
+     * @param cached Whether the tools come from a saved catalog rather than the live server
+     */
+    private Snapshot index(List<ToolCallback> callbacks, List<String> mcpNames, boolean cached) {
+        Map<String, ToolEntry> byName = new HashMap<>(callbacks.size() * 4);
+        List<ToolEntry> entries = new ArrayList<>(callbacks.size());
+        List<ToolSummary> summaries = new ArrayList<>(callbacks.size());
+
+        for (int i = 0; i < callbacks.size(); i++) {
+            ToolCallback callback = callbacks.get(i);
+            try {
+                ToolDefinition definition = callback.getToolDefinition();
+                String fullName = definition != null ? definition.name() : null;
+                String mcpName = mcpNames != null ? mcpNames.get(i) : null;
+                // The MCP name is exact; cleaning the generated name loses underscores in tool names
+                String name = mcpName != null ? mcpName : extractToolName(callback, fullName);
+
+                ToolSchema schema = ToolSchema.parse(definition != null ? definition.inputSchema() : null);
+                ToolEntry entry = new ToolEntry(name, fullName != null ? fullName : name, mcpName, callback, definition, schema);
+                entries.add(entry);
+                summaries.add(ToolSummary.of(entry));
+
+                // Cleaned names win over full names if they ever collide
+                byName.put(name, entry);
+                if (fullName != null) {
+                    byName.putIfAbsent(fullName, entry);
+                }
+            } catch (Exception e) {
+                logger.debug("Error indexing tool callback: {}", e.getMessage());
+            }
+        }
+
+        Snapshot indexed = new Snapshot(Collections.unmodifiableList(entries), Collections.unmodifiableMap(byName),
+            Collections.unmodifiableList(summaries), versions.incrementAndGet(), cached);
+        snapshot.set(indexed);
+        logger.debug("Indexed {} tools (catalog version {})", entries.size(), indexed.version());
+        return indexed;
+    }
+
+    private Snapshot publishEmpty() {
+        Snapshot empty = new Snapshot(List.of(), Map.of(), List.of(), versions.incrementAndGet(), false);
+        snapshot.set(empty);
+        return empty;
+    }
+
+    /**
+     * Look up a tool by its cleaned or full name
+     *
+     * @return the matching entry, or null if the current snapshot does not contain it
+     */
+    public ToolEntry lookup(String toolName) {
+        return snapshot.get().byName().get(toolName);
+    }
+
+    /**
+     * Get the currently published snapshot
+     */
+    public Snapshot snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Check if no tools have been indexed yet
+     */
+    public boolean isEmpty() {
+        return snapshot.get().entries().isEmpty();
+    }
+
+    /**
+     * Check if the server's tools have been listed at least once, even if it had none
+     */
+    public boolean isLoaded() {
+        return snapshot.get().version() > 0;
+    }
+
+    /**
+     * Drop the current index (e.g. on disconnect), so the next lookup lists the tools again
+     */
+    public void clear() {
+        snapshot.set(Snapshot.EMPTY);
+    }
+
+    private String extractToolName(ToolCallback callback, String fullToolName) {
+        if (fullToolName != null && !fullToolName.isEmpty()) {
+            return cleanToolName(fullToolName);
+        }
+
+        // Fallback: use the identity hash
+        String fallbackName = "tool_" + System.identityHashCode(callback);
+        logger.debug("Using fallback tool name: {}", fallbackName);
+        return fallbackName;
+    }
+
+    /**
+     * Clean up Spring AI MCP generated tool names by removing predictable prefixes
+     * Pattern: [client-name]_[server-name]_[method-name] -> [method-name]
+     *
+     * Equivalent to taking the last segment of split("_") when there are at least
+     * three segments, without allocating the intermediate array.
+     */
+    public static String cleanToolName(String fullToolName) {
+        // split() drops trailing empty segments, so ignore trailing separators
+        int end = fullToolName.length();
+        while (end > 0 && fullToolName.charAt(end - 1) == '_') {
+            end--;
+        }
+
+        // Need at least three segments: [client]_[server]_[method]
+        int last = fullToolName.lastIndexOf('_', end - 1);
+        if (last < 0 || fullToolName.lastIndexOf('_', last - 1) < 0) {
+            return fullToolName;
+        }
+
+        return fullToolName.substring(last + 1, end);
+    }
+
+    /**
+     * Indexed tool entry with its input schema compiled at discovery time
+     *
+     * @param mcpName Tool name on the MCP server, or null if the tool was indexed from callbacks only
+     */
+    public record ToolEntry(String name, String fullName, String mcpName, ToolCallback callback,
+                            ToolDefinition definition, ToolSchema schema) {}
+
+    /**
+     * Name, description and parameter count of a tool, for listings
+     */
+    public record ToolSummary(String name, String description, int parameterCount) {
+
+        static ToolSummary of(ToolEntry entry) {
+            String description = entry.definition() != null ? entry.definition().description() : null;
+            return new ToolSummary(entry.name(),
+                description == null || description.isBlank() ? "No description available" : description.strip(),
+                entry.schema().size());
+        }
+    }
+
+    /**
+     * Immutable view of the tools known at the time of the last discovery
+     *
+     * @param summaries Listing summaries in the same order as entries
+     * @param version Catalog version, incremented on every refresh; 0 if never listed
+     * @param cached Whether the catalog was restored from disk and not yet reconciled with the server
+     */
+    public record Snapshot(List<ToolEntry> entries, Map<String, ToolEntry> byName, List<ToolSummary> summaries,
+                           long version, boolean cached) {
+        static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), List.of(), 0, false);
+
+        public List<String> toolNames() {
+            List<String> names = new ArrayList<>(entries.size());
+            for (ToolEntry entry : entries) {
+                names.add(entry.name());
+            }
+            return names;
+        }
+    }
+
+    /**
+     * Stand-in callback for a restored tool; restored tools are only called on the server's client
+     */
+    private record CachedToolCallback(ToolDefinition definition) implements ToolCallback {
+
+        @Override
+        public ToolDefinition getToolDefinition() {
+            return definition;
+        }
+
+        @Override
+        public String call(String toolInput) {
+            throw new IllegalStateException("Server is still starting: " + definition.name());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in cache for results of idempotent tool calls
+ *
+ * Entries are keyed by ToolCallKey (server, tool and canonical arguments), so
+ * argument order does not matter but argument types do. Each tool can have its
+ * own TTL; a TTL of zero disables caching for that tool. The cache is bounded by
+ * the approximate heap size of keys and results and evicts least recently used
+ * entries first.
+ *
+ * Configuration under {@code mcp.client.cache}: enabled (default false),
+ * default-ttl (60s), max-size (16MB) and tools.&lt;tool-name&gt; for per-tool TTLs.
+ */
+@Service
+public class ToolResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolResultCache.class);
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(60);
+    private static final DataSize DEFAULT_MAX_SIZE = DataSize.ofMegabytes(16);
+
+    // Rough per-entry bookkeeping cost on top of the key and result characters
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+
+    private final boolean enabled;
+    private final long defaultTtlNanos;
+    private final Map<String, Long> toolTtlNanos;
+    private final long maxBytes;
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<ToolCallKey, CachedResult> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public ToolResultCache(Environment environment) {
+        Binder binder = Binder.get(environment);
+        this.enabled = binder.bind("mcp.client.cache.enabled", Boolean.class).orElse(false);
+        this.defaultTtlNanos = binder.bind("mcp.client.cache.default-ttl", Duration.class).orElse(DEFAULT_TTL).toNanos();
+        this.maxBytes = binder.bind("mcp.client.cache.max-size", DataSize.class).orElse(DEFAULT_MAX_SIZE).toBytes();
+        this.toolTtlNanos = new LinkedHashMap<>();
+        binder.bind("mcp.client.cache.tools", Bindable.mapOf(String.class, Duration.class))
+            .orElse(Map.of())
+            .forEach((tool, ttl) -> toolTtlNanos.put(tool, ttl.toNanos()));
+
+        if (enabled) {
+            logger.info("Tool result cache enabled (default TTL {}, max size {} bytes, {} tool overrides)",
+                Duration.ofNanos(defaultTtlNanos), maxBytes, toolTtlNanos.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check if results of a tool are cached
+     */
+    public boolean isCacheable(String toolName) {
+        return enabled && ttlNanos(toolName) > 0;
+    }
+
+    /**
+     * Look up a cached result
+     *
+     * @return the result, or null on a miss or if the entry has expired
+     */
+    public McpSchema.CallToolResult get(ToolCallKey key) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            CachedResult cached = entries.get(key);
+            if (cached != null && now - cached.expiresAtNanos() < 0) {
+                hits.increment();
+                return cached.result();
+            }
+            if (cached != null) {
+                remove(key, cached);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Store a successful result, evicting least recently used entries to stay within the size bound
+     */
+    public void put(ToolCallKey key, McpSchema.CallToolResult result) {
+        long size = key.sizeInBytes() + 2L * ToolResults.charCount(result) + ENTRY_OVERHEAD_BYTES;
+        if (size > maxBytes) {
+            logger.debug("Not caching result of {} on {}: {} bytes exceeds cache size", key.toolName(), key.serverName(), size);
+            return;
+        }
+
+        CachedResult cached = new CachedResult(result, System.nanoTime() + ttlNanos(key.toolName()), size);
+        synchronized (entries) {
+            CachedResult previous = entries.put(key, cached);
+            if (previous != null) {
+                currentBytes -= previous.sizeInBytes();
+            }
+            currentBytes += size;
+
+            Iterator<Map.Entry<ToolCallKey, CachedResult>> eldest = entries.entrySet().iterator();
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<ToolCallKey, CachedResult> entry = eldest.next();
+                currentBytes -= entry.getValue().sizeInBytes();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Drop all cached results of a server
+     */
+    public void invalidate(String serverName) {
+        synchronized (entries) {
+            entries.entrySet().removeIf(entry -> {
+                boolean matches = entry.getKey().serverName().equals(serverName);
+                if (matches) {
+                    currentBytes -= entry.getValue().sizeInBytes();
+                }
+                return matches;
+            });
+        }
+    }
+
+    /**
+     * Drop all cached results and reset the counters
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            currentBytes = 0;
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        expirations.reset();
+    }
+
+    public CacheStats stats() {
+        synchronized (entries) {
+            return new CacheStats(enabled, entries.size(), currentBytes, maxBytes,
+                hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+        }
+    }
+
+    private long ttlNanos(String toolName) {
+        return toolTtlNanos.getOrDefault(toolName, defaultTtlNanos);
+    }
+
+    private void remove(ToolCallKey key, CachedResult cached) {
+        entries.remove(key);
+        currentBytes -= cached.sizeInBytes();
+    }
+
+    private record CachedResult(McpSchema.CallToolResult result, long expiresAtNanos, long sizeInBytes) {}
+
+    /**
+     * Point-in-time cache statistics
+     */
+    public record CacheStats(boolean enabled, int entries, long sizeInBytes, long maxBytes,
+                             long hits, long misses, long evictions, long expirations) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+}
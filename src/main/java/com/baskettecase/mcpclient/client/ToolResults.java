@@ -0,0 +1,213 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.List;
+
+/**
+ * Helpers for structured tool results (MCP CallToolResult)
+ */
+public final class ToolResults {
+
+    private static final String ERROR_PREFIX = "Error executing tool: ";
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+    private static final int WRITE_CHUNK_CHARS = 16 * 1024;
+
+    private ToolResults() {
+    }
+
+    /**
+     * Result reporting a failure, rendered as an "Error executing tool" message
+     */
+    public static McpSchema.CallToolResult error(String message) {
+        return new McpSchema.CallToolResult(List.of(new McpSchema.TextContent(message)), true);
+    }
+
+    public static boolean isError(McpSchema.CallToolResult result) {
+        return result == null || Boolean.TRUE.equals(result.isError());
+    }
+
+    /**
+     * Render a result for display
+     *
+     * Text blocks are shown as is, one per line; embedded text resources show their
+     * text and binary content is summarized. Error results are prefixed with
+     * "Error executing tool: " so they are recognized by
+     * SpringAiMcpClientManager.isErrorResult.
+     */
+    public static String text(McpSchema.CallToolResult result) {
+        StringBuilder text = new StringBuilder();
+        try {
+            render(result, text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Render a result to a channel, as text would, without building the whole text first
+     *
+     * Each content block is copied in bounded slices into a fixed-size char buffer and
+     * encoded into a fixed-size byte buffer that is drained to the channel whenever it
+     * fills, so memory stays flat however large the result is. (A Writer would not do:
+     * StreamEncoder copies a whole String into a new char[] before encoding it.)
+     * The channel is not closed.
+     */
+    public static void write(McpSchema.CallToolResult result, WritableByteChannel channel, Charset charset)
+            throws IOException {
+        ChannelAppender appender = new ChannelAppender(channel, charset);
+        render(result, appender);
+        appender.finish();
+    }
+
+    private static void render(McpSchema.CallToolResult result, Appendable text) throws IOException {
+        if (result == null) {
+            text.append(ERROR_PREFIX).append("no result");
+            return;
+        }
+        List<McpSchema.Content> content = result.content();
+        if (content == null || content.isEmpty()) {
+            text.append(isError(result) ? ERROR_PREFIX + "no details" : "Tool executed successfully (no result)");
+            return;
+        }
+        if (isError(result)) {
+            text.append(ERROR_PREFIX);
+        }
+
+        for (int i = 0; i < content.size(); i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            switch (content.get(i)) {
+                case McpSchema.TextContent block -> text.append(block.text());
+                case McpSchema.ImageContent image -> text.append("[image ").append(image.mimeType())
+                    .append(", ").append(String.valueOf(length(image.data()))).append(" base64 chars]");
+                case McpSchema.EmbeddedResource embedded -> {
+                    if (embedded.resource() instanceof McpSchema.TextResourceContents resource) {
+                        text.append(resource.text());
+                    } else {
+                        text.append("[resource ").append(embedded.resource().uri()).append(']');
+                    }
+                }
+                default -> text.append('[').append(content.get(i).type()).append(']');
+            }
+        }
+    }
+
+    /**
+     * Approximate number of characters held by a result's content blocks
+     */
+    public static long charCount(McpSchema.CallToolResult result) {
+        long chars = 0;
+        if (result.content() == null) {
+            return chars;
+        }
+        for (McpSchema.Content content : result.content()) {
+            chars += switch (content) {
+                case McpSchema.TextContent block -> length(block.text());
+                case McpSchema.ImageContent image -> length(image.data());
+                case McpSchema.EmbeddedResource embedded -> switch (embedded.resource()) {
+                    case McpSchema.TextResourceContents resource -> length(resource.text());
+                    case McpSchema.BlobResourceContents resource -> length(resource.blob());
+                    default -> 0;
+                };
+                default -> 0;
+            };
+        }
+        return chars;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * Appendable that encodes to a channel through fixed-size buffers
+     *
+     * Chars left over by the encoder (half of a surrogate pair at the end of a slice)
+     * stay in the char buffer and are encoded with the next slice.
+     */
+    private static final class ChannelAppender implements Appendable {
+
+        private final WritableByteChannel channel;
+        private final CharsetEncoder encoder;
+        private final CharBuffer chars = CharBuffer.allocate(WRITE_CHUNK_CHARS);
+        private final ByteBuffer bytes = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+
+        ChannelAppender(WritableByteChannel channel, Charset charset) {
+            this.channel = channel;
+            this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            String value = String.valueOf(csq);
+            return append(value, 0, value.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            String value = String.valueOf(csq);
+            int offset = start;
+            while (offset < end) {
+                int slice = Math.min(chars.remaining(), end - offset);
+                chars.put(value, offset, offset + slice);
+                offset += slice;
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            chars.put(c);
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            return this;
+        }
+
+        void finish() throws IOException {
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                drain();
+            }
+            drain();
+        }
+
+        private void encode(boolean endOfInput) throws IOException {
+            chars.flip();
+            CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            while (result.isOverflow()) {
+                drain();
+                result = encoder.encode(chars, bytes, endOfInput);
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            chars.compact();
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+}
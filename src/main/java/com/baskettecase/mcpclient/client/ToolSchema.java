@@ -0,0 +1,289 @@
+package com.baskettecase.mcpclient.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compiled view of a tool's JSON input schema
+ *
+ * Parsed once when the tool is discovered and cached alongside it in the
+ * ToolRegistry, so parameter prompting and pre-flight validation only walk the
+ * declared parameters instead of re-parsing the schema string on every call.
+ */
+public final class ToolSchema {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolSchema.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static final ToolSchema EMPTY = new ToolSchema(Map.of(), true);
+
+    private final Map<String, Parameter> parameters;
+    private final boolean additionalProperties;
+
+    private ToolSchema(Map<String, Parameter> parameters, boolean additionalProperties) {
+        this.parameters = parameters;
+        this.additionalProperties = additionalProperties;
+    }
+
+    /**
+     * Parse a JSON schema string (as found in ToolDefinition.inputSchema())
+     *
+     * @return the compiled schema, or EMPTY if there is no usable schema
+     */
+    public static ToolSchema parse(String inputSchema) {
+        if (inputSchema == null || inputSchema.isBlank()) {
+            return EMPTY;
+        }
+
+        try {
+            return parse(OBJECT_MAPPER.readTree(inputSchema));
+        } catch (Exception e) {
+            logger.debug("Error parsing input schema: {}", e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Compile an already parsed JSON schema
+     */
+    public static ToolSchema parse(JsonNode schema) {
+        if (schema == null || !schema.isObject()) {
+            return EMPTY;
+        }
+
+        Set<String> required = new HashSet<>();
+        JsonNode requiredNode = schema.get("required");
+        if (requiredNode != null && requiredNode.isArray()) {
+            for (JsonNode name : requiredNode) {
+                required.add(name.asText());
+            }
+        }
+
+        Map<String, Parameter> parameters = new LinkedHashMap<>();
+        JsonNode properties = schema.get("properties");
+        if (properties != null && properties.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = properties.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String name = field.getKey();
+                JsonNode property = field.getValue();
+
+                String description = property.path("description").asText("");
+                parameters.put(name, new Parameter(
+                    name,
+                    ParamType.of(property.get("type")),
+                    ParamType.of(property.path("items").get("type")),
+                    description.isEmpty() ? "No description available" : description,
+                    required.contains(name),
+                    allowedValues(property.get("enum"))
+                ));
+            }
+        }
+
+        JsonNode additional = schema.get("additionalProperties");
+        boolean additionalProperties = additional == null || !additional.isBoolean() || additional.booleanValue();
+
+        return new ToolSchema(Collections.unmodifiableMap(parameters), additionalProperties);
+    }
+
+    private static List<Object> allowedValues(JsonNode enumNode) {
+        if (enumNode == null || !enumNode.isArray() || enumNode.isEmpty()) {
+            return List.of();
+        }
+        List<Object> values = new ArrayList<>(enumNode.size());
+        for (JsonNode value : enumNode) {
+            values.add(OBJECT_MAPPER.convertValue(value, Object.class));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Declared parameters in schema order
+     */
+    public Collection<Parameter> parameters() {
+        return parameters.values();
+    }
+
+    /**
+     * Look up a declared parameter
+     *
+     * @return the parameter, or null if it is not declared
+     */
+    public Parameter parameter(String name) {
+        return parameters.get(name);
+    }
+
+    public int size() {
+        return parameters.size();
+    }
+
+    public boolean isEmpty() {
+        return parameters.isEmpty();
+    }
+
+    /**
+     * Check arguments against the schema before sending them to the server
+     *
+     * Reports missing required parameters, parameters the schema does not allow,
+     * values that cannot represent the declared type and values outside a declared enum.
+     *
+     * @return list of problems, empty if the arguments are acceptable
+     */
+    public List<String> validate(Map<String, Object> arguments) {
+        List<String> errors = new ArrayList<>(0);
+
+        for (Parameter parameter : parameters.values()) {
+            Object value = arguments.get(parameter.name());
+            if (value == null) {
+                if (parameter.required()) {
+                    errors.add("Missing required parameter: " + parameter.name());
+                }
+            } else if (!parameter.type().accepts(value)) {
+                errors.add("Parameter '" + parameter.name() + "' must be of type " + parameter.type().jsonName()
+                    + " (got " + value.getClass().getSimpleName() + ": " + value + ")");
+            } else if (!parameter.allows(value)) {
+                errors.add("Parameter '" + parameter.name() + "' must be one of " + parameter.allowedValues()
+                    + " (got " + value + ")");
+            }
+        }
+
+        if (!additionalProperties) {
+            for (String name : arguments.keySet()) {
+                if (!parameters.containsKey(name)) {
+                    errors.add("Unknown parameter: " + name);
+                }
+            }
+        }
+
+        return errors;
+    }
+
+    /**
+     * A declared tool parameter
+     *
+     * @param itemType Element type for array parameters, ANY if not declared
+     * @param allowedValues Values of the schema's enum, empty if any value is allowed
+     */
+    public record Parameter(String name, ParamType type, ParamType itemType, String description, boolean required,
+                            List<Object> allowedValues) {
+
+        public Parameter(String name, ParamType type, ParamType itemType, String description, boolean required) {
+            this(name, type, itemType, description, required, List.of());
+        }
+
+        /**
+         * Check a value against the enum
+         * Scalars also match by their text, as string literals do for the declared type
+         */
+        boolean allows(Object value) {
+            if (allowedValues.isEmpty()) {
+                return true;
+            }
+            boolean scalar = !(value instanceof Map || value instanceof List);
+            for (Object allowed : allowedValues) {
+                if (Objects.equals(allowed, value) || (scalar && String.valueOf(allowed).equals(value.toString()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * JSON schema primitive types
+     */
+    public enum ParamType {
+        STRING("string"),
+        INTEGER("integer"),
+        NUMBER("number"),
+        BOOLEAN("boolean"),
+        ARRAY("array"),
+        OBJECT("object"),
+        ANY("any");
+
+        private final String jsonName;
+
+        ParamType(String jsonName) {
+            this.jsonName = jsonName;
+        }
+
+        public String jsonName() {
+            return jsonName;
+        }
+
+        static ParamType of(JsonNode typeNode) {
+            if (typeNode == null || !typeNode.isTextual()) {
+                // Missing type or a union such as ["string","null"]
+                return ANY;
+            }
+            return switch (typeNode.asText()) {
+                case "string" -> STRING;
+                case "integer" -> INTEGER;
+                case "number" -> NUMBER;
+                case "boolean" -> BOOLEAN;
+                case "array" -> ARRAY;
+                case "object" -> OBJECT;
+                default -> ANY;
+            };
+        }
+
+        /**
+         * Check if a value can represent this type
+         * Strings are accepted for scalar types when their text is a valid literal
+         */
+        boolean accepts(Object value) {
+            return switch (this) {
+                case ANY -> true;
+                case STRING -> value instanceof String || value instanceof Number || value instanceof Boolean;
+                case INTEGER -> value instanceof Integer || value instanceof Long || value instanceof Short
+                    || value instanceof Byte || value instanceof java.math.BigInteger
+                    || (value instanceof Number n && n.doubleValue() == Math.rint(n.doubleValue()))
+                    || (value instanceof String s && isIntegerLiteral(s));
+                case NUMBER -> value instanceof Number || (value instanceof String s && isNumberLiteral(s));
+                case BOOLEAN -> value instanceof Boolean
+                    || (value instanceof String s && ("true".equalsIgnoreCase(s) || "false".equalsIgnoreCase(s)));
+                case ARRAY -> value instanceof List || value instanceof Object[];
+                case OBJECT -> value instanceof Map;
+            };
+        }
+
+        private static boolean isIntegerLiteral(String s) {
+            int start = !s.isEmpty() && (s.charAt(0) == '-' || s.charAt(0) == '+') ? 1 : 0;
+            if (start == s.length()) {
+                return false;
+            }
+            for (int i = start; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isNumberLiteral(String s) {
+            if (s.isEmpty()) {
+                return false;
+            }
+            try {
+                double parsed = Double.parseDouble(s);
+                return !Double.isNaN(parsed) && !Double.isInfinite(parsed);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -3,30 +3,44 @@ package com.baskettecase.mcpclient.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for dynamically managing MCP server configurations
- * This service allows adding new MCP servers at runtime by updating Spring's environment
- * and providing a way to refresh the MCP client configuration without full application restart.
+ * Records the servers started at runtime by connect (see SpringAiMcpClientManager) in
+ * Spring's environment, so their configuration can be inspected and exported as YAML
+ * without restarting the application.
+ *
+ * The servers are exposed through one property source that is registered once and
+ * reads straight from the server map, so adding or removing a server only touches
+ * that server's entry. Every change is published as a ServerConfigChangedEvent once
+ * the property source reflects it.
  */
 @Service
 public class DynamicMcpConfigService {
 
     private static final Logger logger = LoggerFactory.getLogger(DynamicMcpConfigService.class);
     private static final String PROPERTY_SOURCE_NAME = "dynamicMcpServers";
+    private static final String CONNECTIONS_PREFIX = "spring.ai.mcp.client.stdio.connections.";
     
     @Autowired
     private ConfigurableEnvironment environment;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     private final Map<String, ServerConfig> dynamicServers = new ConcurrentHashMap<>();
+    private final DynamicServerPropertySource propertySource = new DynamicServerPropertySource(dynamicServers);
     
     /**
      * Add a new MCP server configuration dynamically
@@ -34,41 +48,21 @@ public class DynamicMcpConfigService {
      */
     public boolean addServer(String serverName, String jarPath) {
         try {
-            logger.info("Adding dynamic MCP server: {} -> {}", serverName, jarPath);
+            logger.debug("Adding dynamic MCP server: {} -> {}", serverName, jarPath);
             
-            // Store the server configuration
             ServerConfig config = new ServerConfig(serverName, jarPath);
-            dynamicServers.put(serverName, config);
-            
-            // Create property map for Spring environment
-            Map<String, Object> properties = new HashMap<>();
-            
-            // Add all dynamic servers to the property map
-            for (Map.Entry<String, ServerConfig> entry : dynamicServers.entrySet()) {
-                String name = entry.getKey();
-                ServerConfig serverConfig = entry.getValue();
-                
-                String baseKey = "spring.ai.mcp.client.stdio.connections." + name;
-                properties.put(baseKey + ".command", "java");
-                properties.put(baseKey + ".args[0]", "-Dlogging.level.root=OFF");
-                properties.put(baseKey + ".args[1]", "-Dspring.main.banner-mode=off");
-                properties.put(baseKey + ".args[2]", "-Dspring.main.log-startup-info=false");
-                properties.put(baseKey + ".args[3]", "-jar");
-                properties.put(baseKey + ".args[4]", serverConfig.jarPath());
+            if (config.equals(dynamicServers.put(serverName, config))) {
+                return true;
             }
+            propertySource.invalidatePropertyNames();
             
-            // Remove existing dynamic property source if it exists
-            if (environment.getPropertySources().contains(PROPERTY_SOURCE_NAME)) {
-                environment.getPropertySources().remove(PROPERTY_SOURCE_NAME);
+            // Register the property source on first use; later changes are visible through it
+            if (!environment.getPropertySources().contains(PROPERTY_SOURCE_NAME)) {
+                environment.getPropertySources().addFirst(propertySource);
             }
             
-            // Add new property source with updated configurations
-            MapPropertySource propertySource = new MapPropertySource(PROPERTY_SOURCE_NAME, properties);
-            environment.getPropertySources().addFirst(propertySource);
-            
-            logger.info("✓ Dynamic MCP server configuration added: {}", serverName);
-            logger.info("⚠ Note: Spring AI MCP Client may require context refresh to detect new servers");
-            
+            eventPublisher.publishEvent(new ServerConfigChangedEvent(serverName, config));
+            logger.debug("✓ Dynamic MCP server configuration added: {}", serverName);
             return true;
             
         } catch (Exception e) {
@@ -82,40 +76,14 @@ public class DynamicMcpConfigService {
      */
     public boolean removeServer(String serverName) {
         try {
-            if (!dynamicServers.containsKey(serverName)) {
+            if (dynamicServers.remove(serverName) == null) {
                 logger.warn("Server not found in dynamic configuration: {}", serverName);
                 return false;
             }
+            propertySource.invalidatePropertyNames();
             
-            logger.info("Removing dynamic MCP server: {}", serverName);
-            dynamicServers.remove(serverName);
-            
-            // Rebuild property source without the removed server
-            Map<String, Object> properties = new HashMap<>();
-            for (Map.Entry<String, ServerConfig> entry : dynamicServers.entrySet()) {
-                String name = entry.getKey();
-                ServerConfig serverConfig = entry.getValue();
-                
-                String baseKey = "spring.ai.mcp.client.stdio.connections." + name;
-                properties.put(baseKey + ".command", "java");
-                properties.put(baseKey + ".args[0]", "-Dlogging.level.root=OFF");
-                properties.put(baseKey + ".args[1]", "-Dspring.main.banner-mode=off");
-                properties.put(baseKey + ".args[2]", "-Dspring.main.log-startup-info=false");
-                properties.put(baseKey + ".args[3]", "-jar");
-                properties.put(baseKey + ".args[4]", serverConfig.jarPath());
-            }
-            
-            // Update property source
-            if (environment.getPropertySources().contains(PROPERTY_SOURCE_NAME)) {
-                environment.getPropertySources().remove(PROPERTY_SOURCE_NAME);
-            }
-            
-            if (!properties.isEmpty()) {
-                MapPropertySource propertySource = new MapPropertySource(PROPERTY_SOURCE_NAME, properties);
-                environment.getPropertySources().addFirst(propertySource);
-            }
-            
-            logger.info("✓ Dynamic MCP server configuration removed: {}", serverName);
+            eventPublisher.publishEvent(new ServerConfigChangedEvent(serverName, null));
+            logger.debug("✓ Dynamic MCP server configuration removed: {}", serverName);
             return true;
             
         } catch (Exception e) {
@@ -163,11 +131,9 @@ public class DynamicMcpConfigService {
             yaml.append("            ").append(name).append(":\n");
             yaml.append("              command: java\n");
             yaml.append("              args:\n");
-            yaml.append("                - -Dlogging.level.root=OFF\n");
-            yaml.append("                - -Dspring.main.banner-mode=off\n");
-            yaml.append("                - -Dspring.main.log-startup-info=false\n");
-            yaml.append("                - -jar\n");
-            yaml.append("                - ").append(config.jarPath()).append("\n");
+            for (String arg : config.args()) {
+                yaml.append("                - ").append(arg).append("\n");
+            }
         }
         
         return yaml.toString();
@@ -176,5 +142,110 @@ public class DynamicMcpConfigService {
     /**
      * Server configuration record
      */
-    public record ServerConfig(String serverName, String jarPath) {}
+    public record ServerConfig(String serverName, String jarPath) {
+
+        /**
+         * Arguments of the java command that starts the server
+         */
+        public List<String> args() {
+            return List.of(
+                "-Dlogging.level.root=OFF",
+                "-Dspring.main.banner-mode=off",
+                "-Dspring.main.log-startup-info=false",
+                "-jar",
+                jarPath);
+        }
+    }
+
+    /**
+     * Published after a dynamic server is added, changed or removed
+     *
+     * @param config New configuration, or null if the server was removed
+     */
+    public record ServerConfigChangedEvent(String serverName, ServerConfig config) {
+
+        public boolean removed() {
+            return config == null;
+        }
+    }
+
+    /**
+     * Spring AI STDIO connection properties resolved on demand from the server map
+     * 
+     * Lookups parse the server name out of the key, so they cost the same however
+     * many servers are registered. The property name list is only rebuilt when it
+     * is asked for after a change: every change bumps a version, and a list is only
+     * reused while it was built at the current version. A list built concurrently
+     * with a change is tagged with the version read before building, so it is never
+     * taken for the list of a later version.
+     */
+    static final class DynamicServerPropertySource extends EnumerablePropertySource<Map<String, ServerConfig>> {
+
+        private final AtomicLong version = new AtomicLong();
+        private volatile PropertyNames propertyNames;
+
+        DynamicServerPropertySource(Map<String, ServerConfig> servers) {
+            super(PROPERTY_SOURCE_NAME, servers);
+        }
+
+        @Override
+        public Object getProperty(String name) {
+            if (!name.startsWith(CONNECTIONS_PREFIX)) {
+                return null;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot <= CONNECTIONS_PREFIX.length()) {
+                return null;
+            }
+            ServerConfig config = source.get(name.substring(CONNECTIONS_PREFIX.length(), dot));
+            if (config == null) {
+                return null;
+            }
+
+            String key = name.substring(dot + 1);
+            if ("command".equals(key)) {
+                return "java";
+            }
+            if (key.startsWith("args[") && key.endsWith("]")) {
+                List<String> args = config.args();
+                try {
+                    int index = Integer.parseInt(key, 5, key.length() - 1, 10);
+                    return index >= 0 && index < args.size() ? args.get(index) : null;
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String[] getPropertyNames() {
+            long current = version.get();
+            PropertyNames cached = propertyNames;
+            if (cached != null && cached.version() == current) {
+                return cached.names();
+            }
+
+            List<String> list = new ArrayList<>(source.size() * 6);
+            for (ServerConfig config : source.values()) {
+                String baseKey = CONNECTIONS_PREFIX + config.serverName();
+                list.add(baseKey + ".command");
+                for (int i = 0; i < config.args().size(); i++) {
+                    list.add(baseKey + ".args[" + i + "]");
+                }
+            }
+            String[] names = list.toArray(String[]::new);
+            propertyNames = new PropertyNames(current, names);
+            return names;
+        }
+
+        /**
+         * Called after every change to the server map
+         */
+        void invalidatePropertyNames() {
+            version.incrementAndGet();
+        }
+
+        private record PropertyNames(long version, String[] names) {}
+    }
 }
@@ -0,0 +1,234 @@
+package com.baskettecase.mcpclient.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for persisting discovered tool catalogs between runs
+ *
+ * Each server's catalog is stored in ~/.generic-mcp-client/catalogs/, next to the
+ * default server configuration, in a file named after the server and a hash of its
+ * name, together with the SHA-256 of the server JAR it was listed from. A catalog is
+ * only loaded back for the same server name and an identical JAR, so a rebuilt
+ * server is never described by stale tools.
+ *
+ * File layout (big-endian): magic, format version, JAR hash (32 bytes), save time,
+ * tool count, then per tool its name, description and input schema JSON as
+ * length-prefixed UTF-8 strings (length -1 for null).
+ *
+ * Disabled with {@code mcp.client.catalog-cache.enabled: false}.
+ */
+@Service
+public class ToolCatalogCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolCatalogCacheService.class);
+    private static final String CONFIG_DIR = ".generic-mcp-client";
+    private static final String CATALOG_DIR = "catalogs";
+    private static final String CATALOG_SUFFIX = ".catalog";
+    private static final int MAGIC = 0x4D435043; // "MCPC"
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HASH_BYTES = 32;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final Path catalogDir;
+
+    // JAR hashes by path, reused while the file's size and modification time are unchanged
+    private final Map<Path, JarHash> jarHashes = new ConcurrentHashMap<>();
+
+    public ToolCatalogCacheService(Environment environment) {
+        this(environment, Paths.get(System.getProperty("user.home"), CONFIG_DIR, CATALOG_DIR));
+    }
+
+    ToolCatalogCacheService(Environment environment, Path catalogDir) {
+        this.enabled = environment.getProperty("mcp.client.catalog-cache.enabled", Boolean.class, true);
+        this.catalogDir = catalogDir;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Load the catalog saved for a server, if it was listed from an identical JAR
+     *
+     * @return the saved tools, or empty if there is no usable catalog
+     */
+    public Optional<List<McpSchema.Tool>> load(String serverName, Path jarPath) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path file = catalogFile(serverName);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                logger.debug("Ignoring catalog with unknown format: {}", file);
+                return Optional.empty();
+            }
+            byte[] savedHash = new byte[HASH_BYTES];
+            in.readFully(savedHash);
+            if (!Arrays.equals(savedHash, hash(jarPath))) {
+                logger.debug("Ignoring catalog of {}: server JAR has changed", serverName);
+                return Optional.empty();
+            }
+            in.readLong(); // save time
+
+            int count = in.readInt();
+            List<McpSchema.Tool> tools = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = readString(in);
+                String description = readString(in);
+                String inputSchema = readString(in);
+                tools.add(new McpSchema.Tool(name, description, inputSchema != null ? inputSchema : "{}"));
+            }
+            logger.debug("Loaded catalog of {} with {} tools", serverName, tools.size());
+            return Optional.of(tools);
+
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Failed to load catalog of {}: {}", serverName, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Save a server's catalog for the JAR it was listed from
+     *
+     * The file is written next to the target and moved into place, so readers never
+     * see a partial catalog. Failures are logged and otherwise ignored.
+     */
+    public void save(String serverName, Path jarPath, List<McpSchema.Tool> tools) {
+        if (!enabled) {
+            return;
+        }
+        Path file = catalogFile(serverName);
+        try {
+            byte[] jarHash = hash(jarPath);
+            Files.createDirectories(catalogDir);
+            Path temp = Files.createTempFile(catalogDir, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(FORMAT_VERSION);
+                out.write(jarHash);
+                out.writeLong(System.currentTimeMillis());
+                out.writeInt(tools.size());
+                for (McpSchema.Tool tool : tools) {
+                    writeString(out, tool.name());
+                    writeString(out, tool.description());
+                    writeString(out, tool.inputSchema() != null ? objectMapper.writeValueAsString(tool.inputSchema()) : null);
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved catalog of {} with {} tools", serverName, tools.size());
+
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to save tool catalog of {}: {}", serverName, e.getMessage());
+        }
+    }
+
+    /**
+     * Get the catalog directory for display purposes
+     */
+    public String getCatalogDirPath() {
+        return catalogDir.toString();
+    }
+
+    /**
+     * Catalog file of a server: its sanitized name for readability, plus a hash of the
+     * raw name so names that sanitize alike (a.b, a_b) do not share a file
+     */
+    private Path catalogFile(String serverName) {
+        byte[] nameHash = sha256().digest(serverName.getBytes(StandardCharsets.UTF_8));
+        return catalogDir.resolve(serverName.replaceAll("[^A-Za-z0-9._-]", "_") + "-"
+            + HexFormat.of().formatHex(nameHash, 0, 8) + CATALOG_SUFFIX);
+    }
+
+    /**
+     * SHA-256 of a JAR's content, read through a direct buffer and memoized per file version
+     */
+    private byte[] hash(Path jarPath) throws IOException {
+        Path path = jarPath.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+        JarHash known = jarHashes.get(path);
+        if (known != null && known.size() == attributes.size() && known.modifiedMillis() == modified) {
+            return known.sha256();
+        }
+
+        MessageDigest digest = sha256();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        byte[] sha256 = digest.digest();
+        jarHashes.put(path, new JarHash(attributes.size(), modified, sha256));
+        return sha256;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record JarHash(long size, long modifiedMillis, byte[] sha256) {}
+}
@@ -0,0 +1,32 @@
+package com.baskettecase.mcpclient.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering SpringAiMcpClientManager.connect
+ */
+@Name("com.baskettecase.mcpclient.Connect")
+@Label("MCP Connect")
+@Category({"MCP Client"})
+@Description("Registering a server in the connection table and binding its MCP client")
+@StackTrace(false)
+public class ConnectEvent extends Event {
+
+    @Label("Server")
+    public String serverName;
+
+    @Label("JAR Path")
+    public String jarPath;
+
+    @Label("Client Found")
+    @Description("Whether a Spring AI MCP client for the server was identified")
+    public boolean clientFound;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,38 @@
+package com.baskettecase.mcpclient.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering ParameterParser.parseParameters
+ */
+@Name("com.baskettecase.mcpclient.ParameterParse")
+@Label("MCP Parameter Parse")
+@Category({"MCP Client"})
+@Description("Parsing command line tool arguments into a parameter map")
+@StackTrace(false)
+public class ParameterParseEvent extends Event {
+
+    @Label("Argument Count")
+    public int argumentCount;
+
+    @Label("Input Size")
+    @Description("Total length of the raw arguments")
+    @DataAmount
+    public long inputBytes;
+
+    @Label("Parameter Count")
+    public int parameterCount;
+
+    @Label("Schema Typed")
+    @Description("Whether values were coerced to the tool's declared parameter types")
+    public boolean schemaTyped;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,25 @@
+package com.baskettecase.mcpclient.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering a tools/list round trip and the rebuild of the tool index
+ */
+@Name("com.baskettecase.mcpclient.ToolDiscovery")
+@Label("MCP Tool Discovery")
+@Category({"MCP Client"})
+@Description("Listing a server's tools and rebuilding its tool index")
+@StackTrace(false)
+public class ToolDiscoveryEvent extends Event {
+
+    @Label("Server")
+    public String serverName;
+
+    @Label("Tool Count")
+    public int toolCount;
+}
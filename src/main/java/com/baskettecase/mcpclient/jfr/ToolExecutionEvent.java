@@ -0,0 +1,47 @@
+package com.baskettecase.mcpclient.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event covering SpringAiMcpClientManager.executeTool
+ *
+ * The event duration is the whole call. Serialization time is reported
+ * separately, so the remainder is the round trip to the server.
+ */
+@Name("com.baskettecase.mcpclient.ToolExecution")
+@Label("MCP Tool Execution")
+@Category({"MCP Client"})
+@Description("Executing a tool on an MCP server")
+@StackTrace(false)
+public class ToolExecutionEvent extends Event {
+
+    @Label("Server")
+    public String serverName;
+
+    @Label("Tool")
+    public String toolName;
+
+    @Label("Request Size")
+    @Description("UTF-8 size of the JSON arguments sent to the server (0 for cached results)")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Characters")
+    @Description("Characters of content returned by the server")
+    public long responseChars;
+
+    @Label("Serialization Time")
+    @Description("Time spent converting the parameters to JSON; measured by a separate pass for direct client calls")
+    @Timespan(Timespan.NANOSECONDS)
+    public long serializationNanos;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -1,13 +1,20 @@
 package com.baskettecase.mcpclient.util;
 
+import com.baskettecase.mcpclient.client.ToolSchema;
+import com.baskettecase.mcpclient.jfr.ParameterParseEvent;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Hybrid parameter parser supporting both key=value pairs and JSON format
@@ -16,15 +23,25 @@ import java.util.Map;
  * 1. Try key=value pairs first (most common CLI usage)
  * 2. Fall back to JSON for complex nested objects
  * 3. Auto-detect format based on input structure
+ * 
+ * When the tool's input schema is known, values are coerced directly to the
+ * declared parameter types instead of being guessed from their text.
  */
 @Component
 public class ParameterParser {
 
     private static final Logger logger = LoggerFactory.getLogger(ParameterParser.class);
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("-?\\d+");
+    private static final Pattern DECIMAL_PATTERN = Pattern.compile("-?\\d*\\.\\d+([eE][+-]?\\d+)?");
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<Object>> LIST_TYPE = new TypeReference<>() {};
+
     private final ObjectMapper objectMapper;
+    private final Map<ToolSchema.ParamType, ValueConverter> converters;
 
     public ParameterParser() {
         this.objectMapper = new ObjectMapper();
+        this.converters = createConverters();
     }
 
     /**
@@ -35,6 +52,40 @@ public class ParameterParser {
      * @throws IllegalArgumentException if parameters cannot be parsed
      */
     public Map<String, Object> parseParameters(String[] args) {
+        return parseParameters(args, null);
+    }
+
+    /**
+     * Parse parameters and coerce each value to the type declared in the tool's schema
+     * 
+     * Parameters the schema does not declare fall back to type inference.
+     * 
+     * @param args Parameter arguments from CLI
+     * @param schema Compiled input schema of the target tool, or null to infer types
+     * @return Map of parameter name to typed value
+     * @throws IllegalArgumentException if parameters cannot be parsed or a value does not fit its declared type
+     */
+    public Map<String, Object> parseParameters(String[] args, ToolSchema schema) {
+        ParameterParseEvent event = new ParameterParseEvent();
+        event.begin();
+        Map<String, Object> parameters = null;
+        try {
+            parameters = schema == null || schema.isEmpty() ? parseUntyped(args) : parseTyped(args, schema);
+            return parameters;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.argumentCount = args != null ? args.length : 0;
+                event.inputBytes = args != null ? Arrays.stream(args).mapToLong(String::length).sum() : 0;
+                event.parameterCount = parameters != null ? parameters.size() : 0;
+                event.schemaTyped = schema != null && !schema.isEmpty();
+                event.success = parameters != null;
+                event.commit();
+            }
+        }
+    }
+
+    private Map<String, Object> parseUntyped(String[] args) {
         if (args == null || args.length == 0) {
             return new HashMap<>();
         }
@@ -56,6 +107,224 @@ public class ParameterParser {
         );
     }
 
+    private Map<String, Object> parseTyped(String[] args, ToolSchema schema) {
+        if (args == null || args.length == 0) {
+            return new HashMap<>();
+        }
+
+        if (args.length == 1 && isJsonFormat(args[0])) {
+            return coerceParameters(parseJson(args[0]), schema);
+        }
+
+        if (!isKeyValueFormat(args)) {
+            return parseUntyped(args); // reports the format error
+        }
+
+        Map<String, Object> parameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = arg.substring(0, separator).trim();
+            String value = arg.substring(separator + 1).trim();
+
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Empty key in parameter: " + arg);
+            }
+
+            ToolSchema.Parameter parameter = schema.parameter(key);
+            parameters.put(key, parameter != null ? coerceValue(value, parameter) : convertValue(value));
+        }
+
+        logger.debug("Parsed schema-typed parameters: {}", parameters);
+        return parameters;
+    }
+
+    /**
+     * Coerce already parsed parameters (e.g. from JSON) to their declared types
+     * Only string values (including string items of arrays) are converted; values that
+     * already carry a JSON type are kept.
+     */
+    public Map<String, Object> coerceParameters(Map<String, Object> parameters, ToolSchema schema) {
+        if (schema == null || schema.isEmpty()) {
+            return parameters;
+        }
+
+        Map<String, Object> coerced = new HashMap<>(parameters);
+        for (Map.Entry<String, Object> entry : coerced.entrySet()) {
+            ToolSchema.Parameter parameter = schema.parameter(entry.getKey());
+            if (parameter != null && entry.getValue() instanceof String text) {
+                entry.setValue(coerceValue(text, parameter));
+            } else if (parameter != null && parameter.type() == ToolSchema.ParamType.ARRAY
+                    && entry.getValue() instanceof List<?> items) {
+                try {
+                    entry.setValue(coerceItems(items, parameter));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Parameter '" + parameter.name() + "' expects "
+                        + parameter.type().jsonName() + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return coerced;
+    }
+
+    /**
+     * Convert a raw string to the type declared for a parameter
+     * 
+     * @throws IllegalArgumentException if the text is not a valid value of that type
+     */
+    public Object coerceValue(String raw, ToolSchema.Parameter parameter) {
+        try {
+            return converters.get(parameter.type()).convert(raw, parameter);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Parameter '" + parameter.name() + "' expects "
+                + parameter.type().jsonName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Build one converter per schema type up front so coercion is a map lookup plus a direct parse
+     */
+    private Map<ToolSchema.ParamType, ValueConverter> createConverters() {
+        Map<ToolSchema.ParamType, ValueConverter> map = new EnumMap<>(ToolSchema.ParamType.class);
+        map.put(ToolSchema.ParamType.STRING, (raw, parameter) -> unquote(raw));
+        map.put(ToolSchema.ParamType.INTEGER, (raw, parameter) -> parseInteger(unquote(raw)));
+        map.put(ToolSchema.ParamType.NUMBER, (raw, parameter) -> parseNumber(unquote(raw)));
+        map.put(ToolSchema.ParamType.BOOLEAN, (raw, parameter) -> parseBoolean(unquote(raw)));
+        map.put(ToolSchema.ParamType.ARRAY, this::parseArray);
+        map.put(ToolSchema.ParamType.OBJECT, (raw, parameter) -> parseObject(raw));
+        map.put(ToolSchema.ParamType.ANY, (raw, parameter) -> convertValue(raw));
+        return map;
+    }
+
+    private static Object parseInteger(String text) {
+        try {
+            long value = Long.parseLong(text);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("'" + text + "' is not an integer");
+        }
+    }
+
+    private static Object parseNumber(String text) {
+        try {
+            long value = Long.parseLong(text);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            // Not integral, try decimal
+        }
+        try {
+            double value = Double.parseDouble(text);
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new NumberFormatException();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("'" + text + "' is not a number");
+        }
+    }
+
+    private static Boolean parseBoolean(String text) {
+        if ("true".equalsIgnoreCase(text)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(text)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("'" + text + "' is not true or false");
+    }
+
+    /**
+     * Arrays accept JSON ("[1,2,3]") or a comma-separated list ("a,b,c"); in both
+     * forms the elements are coerced to the declared item type
+     */
+    private List<Object> parseArray(String raw, ToolSchema.Parameter parameter) {
+        String text = raw.trim();
+        if (text.startsWith("[")) {
+            List<Object> items;
+            try {
+                items = objectMapper.readValue(text, LIST_TYPE);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("invalid JSON array: " + e.getMessage());
+            }
+            return coerceItems(items, parameter);
+        }
+
+        List<Object> items = new ArrayList<>();
+        if (text.isEmpty()) {
+            return items;
+        }
+
+        ToolSchema.Parameter item = itemParameter(parameter);
+        ValueConverter itemConverter = converters.get(parameter.itemType() == ToolSchema.ParamType.ARRAY
+            ? ToolSchema.ParamType.ANY : parameter.itemType());
+
+        int start = 0;
+        while (start <= text.length()) {
+            int comma = text.indexOf(',', start);
+            int end = comma < 0 ? text.length() : comma;
+            items.add(itemConverter.convert(text.substring(start, end).trim(), item));
+            start = end + 1;
+        }
+        return items;
+    }
+
+    /**
+     * Coerce the string items of a JSON array to the declared item type
+     * 
+     * Items that already carry a JSON type are kept, as are all items of string,
+     * untyped and nested array item types (JSON strings need no unquoting).
+     */
+    private List<Object> coerceItems(List<?> items, ToolSchema.Parameter parameter) {
+        ToolSchema.ParamType itemType = parameter.itemType();
+        if (itemType == ToolSchema.ParamType.STRING || itemType == ToolSchema.ParamType.ANY
+                || itemType == ToolSchema.ParamType.ARRAY) {
+            return new ArrayList<>(items);
+        }
+
+        ToolSchema.Parameter item = itemParameter(parameter);
+        ValueConverter itemConverter = converters.get(itemType);
+        List<Object> coerced = new ArrayList<>(items.size());
+        for (Object value : items) {
+            coerced.add(value instanceof String text ? itemConverter.convert(text.trim(), item) : value);
+        }
+        return coerced;
+    }
+
+    private static ToolSchema.Parameter itemParameter(ToolSchema.Parameter parameter) {
+        return new ToolSchema.Parameter(parameter.name(), parameter.itemType(),
+            ToolSchema.ParamType.ANY, parameter.description(), false);
+    }
+
+    private Map<String, Object> parseObject(String raw) {
+        try {
+            return objectMapper.readValue(raw.trim(), MAP_TYPE);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("invalid JSON object: " + e.getMessage());
+        }
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 &&
+            ((value.startsWith("\"") && value.endsWith("\"")) ||
+             (value.startsWith("'") && value.endsWith("'")))) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * Converts raw CLI text to a typed value for one schema type
+     */
+    @FunctionalInterface
+    private interface ValueConverter {
+        Object convert(String raw, ToolSchema.Parameter parameter);
+    }
+
     /**
      * Check if input looks like JSON format
      */
@@ -92,8 +361,7 @@ public class ParameterParser {
     private Map<String, Object> parseJson(String jsonString) {
         try {
             logger.debug("Parsing JSON parameters: {}", jsonString);
-            TypeReference<Map<String, Object>> typeRef = new TypeReference<>() {};
-            Map<String, Object> result = objectMapper.readValue(jsonString, typeRef);
+            Map<String, Object> result = objectMapper.readValue(jsonString, MAP_TYPE);
             logger.debug("Parsed JSON parameters: {}", result);
             return result;
         } catch (Exception e) {
@@ -159,7 +427,7 @@ public class ParameterParser {
         // Numeric conversion
         try {
             // Try integer first
-            if (value.matches("-?\\d+")) {
+            if (INTEGER_PATTERN.matcher(value).matches()) {
                 long longValue = Long.parseLong(value);
                 // Return as Integer if it fits, otherwise Long
                 if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
@@ -169,7 +437,7 @@ public class ParameterParser {
             }
             
             // Try double
-            if (value.matches("-?\\d*\\.\\d+([eE][+-]?\\d+)?")) {
+            if (DECIMAL_PATTERN.matcher(value).matches()) {
                 return Double.parseDouble(value);
             }
         } catch (NumberFormatException e) {
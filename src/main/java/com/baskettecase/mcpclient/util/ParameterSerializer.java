@@ -0,0 +1,171 @@
+package com.baskettecase.mcpclient.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * JSON serializer for tool parameters
+ *
+ * Serializes parameter maps with a shared ObjectMapper, so values keep their
+ * types (numbers, booleans, nested objects and arrays) and strings are properly
+ * escaped. The mapper's generator buffers come from a recycler pool shared by all
+ * threads rather than a per-thread one: calls run on short-lived virtual threads,
+ * which would each start with an empty thread-local recycler.
+ */
+@Component
+public class ParameterSerializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParameterSerializer.class);
+
+    private final ObjectMapper objectMapper;
+
+    public ParameterSerializer() {
+        this(new ObjectMapper(JsonFactory.builder()
+            .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+            .build()));
+    }
+
+    public ParameterSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Serialize a parameter map to a JSON object string
+     *
+     * @param parameters Parameter name to value map (may be null)
+     * @return JSON object, "{}" for null or empty input
+     * @throws IllegalArgumentException if a value cannot be serialized
+     */
+    public String toJson(Map<String, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return "{}";
+        }
+
+        try {
+            return objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize parameters: {}", parameters.keySet(), e);
+            throw new IllegalArgumentException("Cannot serialize parameters: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Size in bytes of the UTF-8 encoding of toJson's result, counted without building it
+     *
+     * Counted from the character output: Jackson's byte output escapes characters
+     * outside the BMP, so its length differs from the text that is sent.
+     *
+     * @throws IllegalArgumentException if a value cannot be serialized
+     */
+    public long serializedSize(Map<String, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return 2;
+        }
+
+        Utf8CountingWriter counter = new Utf8CountingWriter();
+        try {
+            objectMapper.writeValue(counter, parameters);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize parameters: " + e.getMessage(), e);
+        }
+        return counter.count();
+    }
+
+    /**
+     * Number of bytes in the UTF-8 encoding of a string
+     */
+    public static long utf8Length(String value) {
+        long bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Shared, pre-configured mapper
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Counts the UTF-8 bytes of the characters written, as utf8Length does
+     */
+    private static final class Utf8CountingWriter extends Writer {
+
+        private long count;
+        private boolean highSurrogate;
+
+        @Override
+        public void write(int c) {
+            add((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                add(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String text, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                add(text.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        long count() {
+            return highSurrogate ? count + 3 : count;
+        }
+
+        private void add(char c) {
+            if (highSurrogate) {
+                highSurrogate = false;
+                if (Character.isLowSurrogate(c)) {
+                    count += 4;
+                    return;
+                }
+                count += 3;
+            }
+            if (c < 0x80) {
+                count++;
+            } else if (c < 0x800) {
+                count += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                highSurrogate = true;
+            } else {
+                count += 3;
+            }
+        }
+    }
+}
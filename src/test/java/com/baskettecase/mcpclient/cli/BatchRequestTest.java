@@ -0,0 +1,137 @@
+package com.baskettecase.mcpclient.cli;
+
+import com.baskettecase.mcpclient.client.ToolInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchRequestTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parsesOptions() {
+        BatchRequest defaults = BatchRequest.parse(" calls.jsonl ");
+        assertThat(defaults.file()).isEqualTo(Path.of("calls.jsonl"));
+        assertThat(defaults.parallelism()).isEqualTo(BatchRequest.DEFAULT_PARALLELISM);
+        assertThat(defaults.ordered()).isFalse();
+
+        BatchRequest request = BatchRequest.parse("calls.jsonl --ordered --parallel 3");
+        assertThat(request.parallelism()).isEqualTo(3);
+        assertThat(request.ordered()).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidOptions() {
+        assertThatThrownBy(() -> BatchRequest.parse("calls.jsonl --parallel"))
+            .hasMessage("--parallel requires a number");
+        assertThatThrownBy(() -> BatchRequest.parse("calls.jsonl --parallel many"))
+            .hasMessage("Invalid --parallel value: many");
+        assertThatThrownBy(() -> BatchRequest.parse("calls.jsonl --parallel 0"))
+            .hasMessage("--parallel must be at least 1");
+        assertThatThrownBy(() -> BatchRequest.parse("calls.jsonl --fast"))
+            .hasMessage("Unknown option: --fast");
+    }
+
+    @Test
+    void parsesRecordWithTypedParameters() {
+        ToolInvocation invocation = BatchRequest.parseInvocation(
+            "{\"tool\":\"forecast\",\"parameters\":{\"city\":\"Paris\",\"days\":3,\"tags\":[\"rain\"],\"options\":{\"metric\":true}}}");
+
+        assertThat(invocation.toolName()).isEqualTo("forecast");
+        assertThat(invocation.parameters()).isEqualTo(Map.of(
+            "city", "Paris",
+            "days", 3,
+            "tags", List.of("rain"),
+            "options", Map.of("metric", true)));
+    }
+
+    @Test
+    void acceptsNameAndArgumentsAliases() {
+        ToolInvocation invocation = BatchRequest.parseInvocation("{\"name\":\"forecast\",\"arguments\":{\"city\":\"Oslo\"}}");
+
+        assertThat(invocation.toolName()).isEqualTo("forecast");
+        assertThat(invocation.parameters()).isEqualTo(Map.of("city", "Oslo"));
+    }
+
+    @Test
+    void missingOrNullParametersAreEmpty() {
+        assertThat(BatchRequest.parseInvocation("{\"tool\":\"ping\"}").parameters()).isEmpty();
+        assertThat(BatchRequest.parseInvocation("{\"tool\":\"ping\",\"parameters\":null}").parameters()).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidRecords() {
+        assertThatThrownBy(() -> BatchRequest.parseInvocation("{\"tool\":"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Invalid JSON format: ");
+        assertThatThrownBy(() -> BatchRequest.parseInvocation("[\"forecast\"]"))
+            .hasMessage("Batch record must be a JSON object");
+        assertThatThrownBy(() -> BatchRequest.parseInvocation("{\"parameters\":{}}"))
+            .hasMessage("Batch record is missing a \"tool\" name");
+        assertThatThrownBy(() -> BatchRequest.parseInvocation("{\"tool\":42}"))
+            .hasMessage("Batch record is missing a \"tool\" name");
+        assertThatThrownBy(() -> BatchRequest.parseInvocation("{\"tool\":\"forecast\",\"parameters\":[1]}"))
+            .hasMessage("\"parameters\" must be a JSON object");
+    }
+
+    @Test
+    void skipsBlankAndCommentLines() throws Exception {
+        Path file = write("""
+            # weather calls
+
+            {"tool":"forecast","parameters":{"city":"Paris"}}
+               \t
+              # indented comment
+              {"tool":"alerts"}\s\s
+            """);
+
+        List<ToolInvocation> invocations = new BatchRequest(file, 1, false).readInvocations();
+
+        assertThat(invocations.stream().map(ToolInvocation::toolName).toList()).containsExactly("forecast", "alerts");
+        assertThat(invocations.get(0).parameters()).isEqualTo(Map.of("city", "Paris"));
+    }
+
+    @Test
+    void emptyFileHasNoInvocations() throws Exception {
+        Path file = write("\n# nothing to do\n");
+
+        assertThat(new BatchRequest(file, 1, false).readInvocations()).isEmpty();
+    }
+
+    @Test
+    void invalidJsonLineIsReportedWithItsLineNumber() throws Exception {
+        Path file = write("""
+            # header
+            {"tool":"forecast"}
+
+            {"tool":"alerts", parameters}
+            {"tool":"never-read"}
+            """);
+
+        assertThatThrownBy(() -> new BatchRequest(file, 1, false).readInvocations())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Invalid record on line 4: Invalid JSON format: ");
+    }
+
+    @Test
+    void invalidRecordIsReportedWithItsLineNumber() throws Exception {
+        Path file = write("{\"tool\":\"forecast\"}\n{\"parameters\":{}}\n");
+
+        assertThatThrownBy(() -> new BatchRequest(file, 1, false).readInvocations())
+            .hasMessage("Invalid record on line 2: Batch record is missing a \"tool\" name");
+    }
+
+    private Path write(String content) throws Exception {
+        return Files.writeString(dir.resolve("calls.jsonl"), content, StandardCharsets.UTF_8);
+    }
+}
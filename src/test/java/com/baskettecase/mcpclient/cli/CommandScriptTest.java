@@ -0,0 +1,175 @@
+package com.baskettecase.mcpclient.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CommandScriptTest {
+
+    private final List<String> executed = new ArrayList<>();
+
+    @Test
+    void runsNestedLoopsWithLoopVariables() throws Exception {
+        CommandScript.Result result = run("""
+            # comment and blank lines are skipped
+
+            repeat 2 as i
+              for server in alpha beta
+                invoke-tool ping target=${server}-${i}
+              end
+            end
+            """);
+
+        assertThat(executed).containsExactly(
+            "invoke-tool ping target=alpha-1",
+            "invoke-tool ping target=beta-1",
+            "invoke-tool ping target=alpha-2",
+            "invoke-tool ping target=beta-2");
+        assertThat(result.commands()).isEqualTo(4);
+        assertThat(result.exitCode()).isEqualTo(CommandScript.EXIT_OK);
+        assertThat(result.error()).isNull();
+    }
+
+    @Test
+    void expandsRepeatCountAndForValuesFromVariables() throws Exception {
+        run("""
+            set TIMES=2
+            set SERVERS=a b
+            repeat ${TIMES}
+              for s in ${SERVERS}
+                use ${s}
+              end
+            end
+            """);
+
+        assertThat(executed).containsExactly("use a", "use b", "use a", "use b");
+    }
+
+    @Test
+    void undefinedVariableStopsWithScriptError() throws Exception {
+        CommandScript.Result result = run("""
+            status
+            invoke-tool ${MCP_SCRIPT_TEST_UNDEFINED}
+            status
+            """);
+
+        assertThat(executed).containsExactly("status");
+        assertThat(result.exitCode()).isEqualTo(CommandScript.EXIT_SCRIPT_ERROR);
+        assertThat(result.error()).isEqualTo("test.mcp:2: undefined variable: MCP_SCRIPT_TEST_UNDEFINED");
+    }
+
+    @Test
+    void unsetVariablesFallBackToEnvironment() throws Exception {
+        String path = System.getenv("PATH");
+        assumeTrue(path != null);
+
+        run("echo ${PATH}\n");
+
+        assertThat(executed).containsExactly("echo " + path);
+    }
+
+    @Test
+    void keepsQuotesAndReplacementCharactersInValues() throws Exception {
+        run("""
+            set CITY=New York
+            set NOTE = costs $5 \\o/ a=b
+            invoke-tool weather '{"city":"${CITY}","note":"${NOTE}"}'
+            invoke-tool echo text="${CITY}"
+            """);
+
+        assertThat(executed).containsExactly(
+            "invoke-tool weather '{\"city\":\"New York\",\"note\":\"costs $5 \\o/ a=b\"}'",
+            "invoke-tool echo text=\"New York\"");
+    }
+
+    @Test
+    void failedCommandsGiveStatusOneAndContinue() throws Exception {
+        CommandScript.Result result = run("""
+            fail first
+            status
+            fail second
+            """);
+
+        assertThat(executed).containsExactly("fail first", "status", "fail second");
+        assertThat(result.failures()).isEqualTo(2);
+        assertThat(result.exitCode()).isEqualTo(CommandScript.EXIT_COMMAND_FAILED);
+    }
+
+    @Test
+    void failFastStopsAtFirstFailure() throws Exception {
+        CommandScript.Result result = new CommandScript("test.mcp", this::execute, true)
+            .run(new BufferedReader(new StringReader("repeat 3\n  fail now\nend\nstatus\n")));
+
+        assertThat(executed).containsExactly("fail now");
+        assertThat(result.exitCode()).isEqualTo(CommandScript.EXIT_COMMAND_FAILED);
+    }
+
+    @Test
+    void exitWithCodeStopsInsideLoops() throws Exception {
+        CommandScript.Result result = run("""
+            set CODE=3
+            repeat 5 as i
+              status ${i}
+              exit ${CODE}
+            end
+            status never
+            """);
+
+        assertThat(executed).containsExactly("status 1");
+        assertThat(result.exitCode()).isEqualTo(3);
+        assertThat(result.error()).isNull();
+    }
+
+    @Test
+    void exitWithoutCodeReportsCurrentStatus() throws Exception {
+        assertThat(run("status\nexit\nfail never\n").exitCode()).isEqualTo(CommandScript.EXIT_OK);
+        executed.clear();
+        assertThat(run("fail once\nquit\nstatus\n").exitCode()).isEqualTo(CommandScript.EXIT_COMMAND_FAILED);
+        assertThat(executed).containsExactly("fail once");
+    }
+
+    @Test
+    void invalidExitCodeIsScriptError() throws Exception {
+        CommandScript.Result result = run("exit abc\n");
+
+        assertThat(result.exitCode()).isEqualTo(CommandScript.EXIT_SCRIPT_ERROR);
+        assertThat(result.error()).isEqualTo("test.mcp:1: invalid exit code: abc");
+    }
+
+    @Test
+    void reportsSyntaxErrorsWithLineNumbers() throws Exception {
+        assertThat(run("status\nend\n").error()).isEqualTo("test.mcp:2: 'end' without 'repeat' or 'for'");
+        assertThat(run("repeat 2\n  for x in a\n    status\n  end\n").error())
+            .isEqualTo("test.mcp:1: block is not closed with 'end'");
+        assertThat(run("repeat -1\nend\n").error()).isEqualTo("test.mcp:1: repeat count must not be negative");
+        assertThat(run("repeat many\nend\n").error()).isEqualTo("test.mcp:1: invalid repeat count: many");
+        assertThat(run("for 1x in a b\nend\n").error()).isEqualTo("test.mcp:1: invalid variable name: 1x");
+        assertThat(run("set =value\n").error()).isEqualTo("test.mcp:1: expected 'set <name>=<value>'");
+        assertThat(run("exit 1 2\n").exitCode()).isEqualTo(CommandScript.EXIT_SCRIPT_ERROR);
+    }
+
+    @Test
+    void unclosedBlockRunsNothingInside() throws Exception {
+        run("status\nrepeat 2\n  invoke-tool ping\n");
+
+        assertThat(executed).containsExactly("status");
+    }
+
+    private CommandScript.Result run(String script) throws Exception {
+        return new CommandScript("test.mcp", this::execute, false).run(new BufferedReader(new StringReader(script)));
+    }
+
+    /**
+     * Records the command; commands starting with "fail" fail
+     */
+    private boolean execute(String command) {
+        executed.add(command);
+        return !command.startsWith("fail");
+    }
+}
@@ -0,0 +1,63 @@
+package com.baskettecase.mcpclient.cli;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonCommandsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void closeNestedGivesPendingFieldNameNullValue() throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator json = objectMapper.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("command", "invoke-tool");
+            json.writeFieldName("result");
+
+            JsonCommands.closeNested(json);
+            json.writeStringField("error", "boom");
+            json.writeEndObject();
+        }
+
+        assertThat(out.toString()).isEqualTo("{\"command\":\"invoke-tool\",\"result\":null,\"error\":\"boom\"}");
+    }
+
+    @Test
+    void closeNestedClosesOpenArraysAndObjects() throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator json = objectMapper.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("results");
+            json.writeStartObject();
+            json.writeNumberField("index", 1);
+            json.writeFieldName("result");
+
+            JsonCommands.closeNested(json);
+            json.writeStringField("error", "boom");
+            json.writeEndObject();
+        }
+
+        assertThat(out.toString()).isEqualTo("{\"results\":[{\"index\":1,\"result\":null}],\"error\":\"boom\"}");
+    }
+
+    @Test
+    void closeNestedLeavesCompleteDocumentAlone() throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator json = objectMapper.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("command", "status");
+
+            JsonCommands.closeNested(json);
+            json.writeStringField("error", "boom");
+            json.writeEndObject();
+        }
+
+        assertThat(out.toString()).isEqualTo("{\"command\":\"status\",\"error\":\"boom\"}");
+    }
+}
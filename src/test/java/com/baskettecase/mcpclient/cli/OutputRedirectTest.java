@@ -0,0 +1,66 @@
+package com.baskettecase.mcpclient.cli;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutputRedirectTest {
+
+    @Test
+    void splitsTrailingRedirect() {
+        OutputRedirect redirect = OutputRedirect.parse("getHello name=Bob > out.txt");
+
+        assertThat(redirect.args()).isEqualTo("getHello name=Bob");
+        assertThat(redirect.file()).isEqualTo(Paths.get("out.txt"));
+        assertThat(redirect.append()).isFalse();
+        assertThat(redirect.isPresent()).isTrue();
+    }
+
+    @Test
+    void recognizesAppendWithoutSpaceBeforeFile() {
+        OutputRedirect redirect = OutputRedirect.parse("getHello >>logs/result.txt  ");
+
+        assertThat(redirect.args()).isEqualTo("getHello");
+        assertThat(redirect.file()).isEqualTo(Paths.get("logs/result.txt"));
+        assertThat(redirect.append()).isTrue();
+    }
+
+    @Test
+    void leavesComparisonsInsideValuesAlone() {
+        assertThat(OutputRedirect.parse("filter expr=a>b").isPresent()).isFalse();
+        assertThat(OutputRedirect.parse("echo text='x > y'").isPresent()).isFalse();
+        assertThat(OutputRedirect.parse("echo '{\"text\":\"a > b\"}'").isPresent()).isFalse();
+    }
+
+    @Test
+    void returnsArgumentsUnchangedWithoutRedirect() {
+        OutputRedirect redirect = OutputRedirect.parse("getHello name=Bob");
+
+        assertThat(redirect.args()).isEqualTo("getHello name=Bob");
+        assertThat(redirect.isPresent()).isFalse();
+    }
+
+    @Test
+    void writesOrAppendsResultWithTrailingNewline(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("result.txt");
+        McpSchema.CallToolResult result = new McpSchema.CallToolResult(List.of(new McpSchema.TextContent("héllo")), false);
+
+        long written = OutputRedirect.parse("tool > " + file).write(result);
+        long appended = OutputRedirect.parse("tool >> " + file).write(result);
+
+        assertThat(written).isEqualTo(7);
+        assertThat(appended).isEqualTo(7);
+        assertThat(Files.readString(file, StandardCharsets.UTF_8)).isEqualTo("héllo\nhéllo\n");
+
+        OutputRedirect.parse("tool > " + file).write(result);
+        assertThat(Files.readString(file, StandardCharsets.UTF_8)).isEqualTo("héllo\n");
+    }
+}
@@ -0,0 +1,200 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ServerProcessPoolTest {
+
+    private static final ServerProcessPool.LaunchConfig WEATHER = ServerProcessPool.LaunchConfig.forJar("/opt/weather.jar");
+    private static final ServerProcessPool.LaunchConfig SEARCH = ServerProcessPool.LaunchConfig.forJar("/opt/search.jar");
+
+    private final List<McpSyncClient> started = new ArrayList<>();
+    private ServerProcessPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void disabledPoolStartsAndStopsEveryProcess() {
+        pool = pool(new MockEnvironment());
+
+        McpSyncClient client = pool.acquire(WEATHER);
+        pool.release(WEATHER, client);
+
+        assertThat(started).containsExactly(client);
+        verify(client).closeGracefully();
+        assertThat(pool.acquire(WEATHER)).isNotSameAs(client);
+        assertThat(pool.stats().idle()).isZero();
+        assertThat(pool.stats().reused()).isZero();
+    }
+
+    @Test
+    void releasedProcessIsHandedOutAgain() {
+        pool = pool(enabled());
+
+        McpSyncClient client = pool.acquire(WEATHER);
+        pool.release(WEATHER, client);
+        assertThat(pool.stats().idle()).isEqualTo(1);
+
+        assertThat(pool.acquire(WEATHER)).isSameAs(client);
+        verify(client, never()).closeGracefully();
+        ServerProcessPool.PoolStats stats = pool.stats();
+        assertThat(stats.spawned()).isEqualTo(1);
+        assertThat(stats.reused()).isEqualTo(1);
+        assertThat(stats.idle()).isZero();
+    }
+
+    @Test
+    void processesAreOnlySharedBetweenIdenticalLaunches() {
+        pool = pool(enabled());
+
+        McpSyncClient weather = pool.acquire(WEATHER);
+        pool.release(WEATHER, weather);
+
+        McpSyncClient search = pool.acquire(SEARCH);
+        assertThat(search).isNotSameAs(weather);
+        assertThat(pool.acquire(ServerProcessPool.LaunchConfig.forJar("/opt/weather.jar"))).isSameAs(weather);
+    }
+
+    @Test
+    void mostRecentlyReleasedProcessIsReusedFirst() {
+        pool = pool(enabled());
+
+        McpSyncClient first = pool.acquire(WEATHER);
+        McpSyncClient second = pool.acquire(WEATHER);
+        pool.release(WEATHER, first);
+        pool.release(WEATHER, second);
+
+        assertThat(pool.acquire(WEATHER)).isSameAs(second);
+        assertThat(pool.acquire(WEATHER)).isSameAs(first);
+    }
+
+    @Test
+    void deadIdleProcessIsStoppedAndReplaced() {
+        pool = pool(enabled());
+
+        McpSyncClient dead = pool.acquire(WEATHER);
+        pool.release(WEATHER, dead);
+        doThrow(new IllegalStateException("process exited")).when(dead).ping();
+
+        McpSyncClient fresh = pool.acquire(WEATHER);
+
+        assertThat(fresh).isNotSameAs(dead);
+        verify(dead).closeGracefully();
+        assertThat(pool.stats().spawned()).isEqualTo(2);
+        assertThat(pool.stats().reused()).isZero();
+    }
+
+    @Test
+    void uninitializedClientIsStoppedOnRelease() {
+        pool = pool(enabled());
+
+        McpSyncClient client = pool.acquire(WEATHER);
+        when(client.isInitialized()).thenReturn(false);
+        pool.release(WEATHER, client);
+
+        verify(client).closeGracefully();
+        assertThat(pool.stats().idle()).isZero();
+    }
+
+    @Test
+    void overflowStopsLongestIdleProcess() {
+        pool = pool(enabled().withProperty("mcp.client.pool.max-size", "2"));
+
+        McpSyncClient oldest = pool.acquire(WEATHER);
+        McpSyncClient middle = pool.acquire(SEARCH);
+        McpSyncClient newest = pool.acquire(WEATHER);
+        pool.release(WEATHER, oldest);
+        pool.release(SEARCH, middle);
+        pool.release(WEATHER, newest);
+
+        verify(oldest).closeGracefully();
+        verify(middle, never()).closeGracefully();
+        verify(newest, never()).closeGracefully();
+        assertThat(pool.stats().idle()).isEqualTo(2);
+        assertThat(pool.stats().evicted()).isEqualTo(1);
+        assertThat(pool.acquire(WEATHER)).isSameAs(newest);
+    }
+
+    @Test
+    void expiredIdleProcessesAreStopped() {
+        pool = pool(enabled().withProperty("mcp.client.pool.idle-timeout", "0s"));
+
+        McpSyncClient client = pool.acquire(WEATHER);
+        pool.release(WEATHER, client);
+        pool.evictExpired();
+
+        verify(client).closeGracefully();
+        assertThat(pool.stats().idle()).isZero();
+        assertThat(pool.stats().evicted()).isEqualTo(1);
+    }
+
+    @Test
+    void prewarmParksStartedProcess() {
+        pool = pool(enabled());
+
+        pool.prewarm(WEATHER);
+
+        assertThat(pool.stats().idle()).isEqualTo(1);
+        assertThat(pool.acquire(WEATHER)).isSameAs(started.get(0));
+        assertThat(pool.stats().spawned()).isEqualTo(1);
+    }
+
+    @Test
+    void startFailuresPropagateFromAcquireButNotPrewarm() {
+        pool = new ServerProcessPool(enabled(), event -> { }, launch -> {
+            throw new IllegalStateException("Failed to start MCP server " + launch);
+        });
+
+        assertThatThrownBy(() -> pool.acquire(WEATHER)).isInstanceOf(IllegalStateException.class);
+        pool.prewarm(WEATHER);
+        assertThat(pool.stats().idle()).isZero();
+        assertThat(pool.stats().spawned()).isZero();
+    }
+
+    @Test
+    void shutdownStopsAllIdleProcesses() {
+        pool = pool(enabled());
+
+        McpSyncClient weather = pool.acquire(WEATHER);
+        McpSyncClient search = pool.acquire(SEARCH);
+        pool.release(WEATHER, weather);
+        pool.release(SEARCH, search);
+
+        pool.shutdown();
+
+        verify(weather).closeGracefully();
+        verify(search).closeGracefully();
+        assertThat(pool.stats().idle()).isZero();
+    }
+
+    private ServerProcessPool pool(MockEnvironment environment) {
+        return new ServerProcessPool(environment, event -> { }, launch -> {
+            McpSyncClient client = mock(McpSyncClient.class);
+            when(client.isInitialized()).thenReturn(true);
+            started.add(client);
+            return client;
+        });
+    }
+
+    private static MockEnvironment enabled() {
+        return new MockEnvironment().withProperty("mcp.client.pool.enabled", "true");
+    }
+}
@@ -0,0 +1,150 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ToolCallCoalescerTest {
+
+    private static final ToolCallKey KEY = new ToolCallKey("s", "t", "{}");
+
+    private final ToolCallCoalescer coalescer = new ToolCallCoalescer(new MockEnvironment()
+        .withProperty("mcp.client.coalescing.enabled", "true"));
+
+    @Test
+    void joinedCallersShareTheLeadersResult() throws Exception {
+        McpSchema.CallToolResult result = new McpSchema.CallToolResult(List.of(new McpSchema.TextContent("ok")), false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<McpSchema.CallToolResult> leader = executor.submit(() -> coalescer.execute(KEY, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return result;
+            }));
+            started.await();
+            Future<McpSchema.CallToolResult> joined = executor.submit(() -> coalescer.execute(KEY, () -> {
+                calls.incrementAndGet();
+                return result;
+            }));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(result);
+            assertThat(joined.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(coalescer.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void leaderErrorIsPropagatedToJoinedCallers() throws Exception {
+        IllegalStateException failure = new IllegalStateException("boom");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<McpSchema.CallToolResult> leader = executor.submit(() -> coalescer.execute(KEY, () -> {
+                started.countDown();
+                await(release);
+                throw failure;
+            }));
+            started.await();
+            Future<McpSchema.CallToolResult> joined = executor.submit(() -> coalescer.execute(KEY, () -> {
+                throw new AssertionError("identical call executed twice");
+            }));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).cause().isSameAs(failure);
+            assertThatThrownBy(() -> joined.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).cause().isSameAs(failure);
+        }
+        assertThat(coalescer.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void reactiveLeaderErrorIsPropagatedToJoinedSubscribers() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        Sinks.One<McpSchema.CallToolResult> response = Sinks.one();
+
+        CompletableFuture<McpSchema.CallToolResult> leader = coalescer.executeReactive(KEY, response::asMono).toFuture();
+        CompletableFuture<McpSchema.CallToolResult> joined = coalescer.executeReactive(KEY,
+            () -> Mono.error(new AssertionError("identical call executed twice"))).toFuture();
+        response.tryEmitError(failure);
+
+        assertThat(leader).failsWithin(5, TimeUnit.SECONDS).withThrowableOfType(ExecutionException.class)
+            .havingCause().isSameAs(failure);
+        assertThat(joined).failsWithin(5, TimeUnit.SECONDS).withThrowableOfType(ExecutionException.class)
+            .havingCause().isSameAs(failure);
+        assertThat(coalescer.stats().coalesced()).isEqualTo(1);
+        assertThat(coalescer.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void cancellingTheReactiveLeaderCancelsJoinedSubscribers() {
+        Sinks.One<McpSchema.CallToolResult> response = Sinks.one();
+
+        Disposable leader = coalescer.executeReactive(KEY, response::asMono).subscribe();
+        CompletableFuture<McpSchema.CallToolResult> joined = coalescer.executeReactive(KEY,
+            () -> Mono.error(new AssertionError("identical call executed twice"))).toFuture();
+        leader.dispose();
+
+        assertThatThrownBy(() -> joined.get(5, TimeUnit.SECONDS))
+            .satisfies(error -> assertThat(error instanceof CancellationException
+                || error.getCause() instanceof CancellationException).isTrue());
+        assertThat(coalescer.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void runsEveryCallWhenDisabled() {
+        ToolCallCoalescer disabled = new ToolCallCoalescer(new MockEnvironment());
+        AtomicInteger calls = new AtomicInteger();
+
+        disabled.execute(KEY, () -> ToolResults.error(String.valueOf(calls.incrementAndGet())));
+        disabled.execute(KEY, () -> ToolResults.error(String.valueOf(calls.incrementAndGet())));
+
+        assertThat(calls).hasValue(2);
+        assertThat(disabled.stats().executed()).isZero();
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.stats().coalesced() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("call was not coalesced");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.baskettecase.mcpclient.client;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolCallMetricsTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Upper bound for the time the test itself adds to a simulated latency
+    private static final long SLACK = TimeUnit.SECONDS.toNanos(1);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ToolCallMetrics metrics = new ToolCallMetrics(registry);
+
+    @Test
+    void recordsCountsErrorsAndLatencyPercentiles() {
+        for (int i = 1; i <= 100; i++) {
+            finish("weather", "forecast", i * MILLIS, i % 10 != 0);
+        }
+
+        List<ToolCallMetrics.CallStats> stats = metrics.toolStats();
+        assertThat(stats).hasSize(1);
+        ToolCallMetrics.CallStats forecast = stats.get(0);
+        assertThat(forecast.serverName()).isEqualTo("weather");
+        assertThat(forecast.toolName()).isEqualTo("forecast");
+        assertThat(forecast.calls()).isEqualTo(100);
+        assertThat(forecast.errors()).isEqualTo(10);
+        assertThat(forecast.inFlight()).isZero();
+        assertThat(forecast.totalNanos()).isGreaterThanOrEqualTo(5050 * MILLIS);
+        assertThat(forecast.p50Nanos()).isBetween(50 * MILLIS, 51 * MILLIS + SLACK);
+        assertThat(forecast.p90Nanos()).isBetween(90 * MILLIS, 91 * MILLIS + SLACK);
+        assertThat(forecast.p99Nanos()).isBetween(99 * MILLIS, 100 * MILLIS + SLACK);
+        assertThat(forecast.maxNanos()).isBetween(100 * MILLIS, 100 * MILLIS + SLACK);
+        assertThat(forecast.p50Nanos()).isLessThanOrEqualTo(forecast.p90Nanos());
+        assertThat(forecast.p90Nanos()).isLessThanOrEqualTo(forecast.p99Nanos());
+        assertThat(forecast.p99Nanos()).isLessThanOrEqualTo(forecast.maxNanos());
+    }
+
+    @Test
+    void latenciesAboveTheTrackableRangeAreClamped() {
+        finish("weather", "forecast", TimeUnit.HOURS.toNanos(1), true);
+
+        ToolCallMetrics.CallStats forecast = metrics.toolStats().get(0);
+        assertThat(forecast.totalNanos()).isGreaterThanOrEqualTo(TimeUnit.HOURS.toNanos(1));
+        assertThat(forecast.maxNanos()).isBetween(TimeUnit.MINUTES.toNanos(10) - SLACK, TimeUnit.MINUTES.toNanos(11));
+    }
+
+    @Test
+    void tracksCallsInFlight() {
+        long start = metrics.callStarted("weather", "forecast");
+        metrics.callStarted("weather", "forecast");
+
+        ToolCallMetrics.CallStats running = metrics.toolStats().get(0);
+        assertThat(running.inFlight()).isEqualTo(2);
+        assertThat(running.calls()).isZero();
+        assertThat(running.p50Nanos()).isZero();
+        assertThat(running.meanNanos()).isZero();
+        assertThat(inFlightGauge("weather", "forecast")).isEqualTo(2);
+
+        metrics.callFinished("weather", "forecast", start, true);
+
+        assertThat(metrics.toolStats().get(0).inFlight()).isEqualTo(1);
+        assertThat(inFlightGauge("weather", "forecast")).isEqualTo(1);
+    }
+
+    @Test
+    void toolsAreOrderedByTotalTimeAndIdleToolsLeftOut() {
+        finish("weather", "forecast", 5 * MILLIS, true);
+        finish("search", "query", 50 * MILLIS, true);
+        metrics.callStarted("search", "index");
+        metrics.callFinished("search", "index", System.nanoTime(), true);
+        metrics.reset();
+        finish("search", "query", 50 * MILLIS, true);
+        finish("weather", "forecast", 5 * MILLIS, true);
+
+        assertThat(metrics.toolStats().stream().map(ToolCallMetrics.CallStats::toolName).toList())
+            .containsExactly("query", "forecast");
+    }
+
+    @Test
+    void serverStatsAggregateAllToolsOfAServer() {
+        finish("weather", "forecast", 10 * MILLIS, true);
+        finish("weather", "alerts", 30 * MILLIS, false);
+        finish("search", "query", 20 * MILLIS, true);
+        metrics.callStarted("weather", "alerts");
+
+        List<ToolCallMetrics.CallStats> stats = metrics.serverStats();
+
+        assertThat(stats.stream().map(ToolCallMetrics.CallStats::serverName).toList())
+            .containsExactly("search", "weather");
+        ToolCallMetrics.CallStats weather = stats.get(1);
+        assertThat(weather.toolName()).isNull();
+        assertThat(weather.calls()).isEqualTo(2);
+        assertThat(weather.errors()).isEqualTo(1);
+        assertThat(weather.inFlight()).isEqualTo(1);
+        assertThat(weather.totalNanos()).isGreaterThanOrEqualTo(40 * MILLIS);
+        assertThat(weather.maxNanos()).isBetween(30 * MILLIS, 30 * MILLIS + SLACK);
+        assertThat(weather.meanNanos()).isGreaterThanOrEqualTo(20.0 * MILLIS);
+    }
+
+    @Test
+    void resetClearsStatisticsButNotMeters() {
+        finish("weather", "forecast", 10 * MILLIS, true);
+
+        metrics.reset();
+
+        assertThat(metrics.toolStats()).isEmpty();
+        assertThat(metrics.serverStats()).isEmpty();
+        assertThat(timer("weather", "forecast", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    void registersTimersPerOutcomeWithTags() {
+        finish("weather", "forecast", 10 * MILLIS, true);
+        finish("weather", "forecast", 20 * MILLIS, true);
+        finish("weather", "forecast", 30 * MILLIS, false);
+
+        Timer success = timer("weather", "forecast", "success");
+        Timer error = timer("weather", "forecast", "error");
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(30.0 * MILLIS);
+        assertThat(error.count()).isEqualTo(1);
+        assertThat(error.max(TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(30.0 * MILLIS);
+        assertThat(success.getId().getDescription()).isEqualTo("MCP tool call latency");
+
+        assertThat(registry.find(ToolCallMetrics.CALLS_METER).timers()).hasSize(2);
+        assertThat(registry.find(ToolCallMetrics.IN_FLIGHT_METER).gauges()).hasSize(1);
+        assertThat(metrics.getMeterRegistry()).isSameAs(registry);
+    }
+
+    @Test
+    void timersPublishPercentiles() {
+        finish("weather", "forecast", 10 * MILLIS, true);
+
+        ValueAtPercentile[] percentiles = timer("weather", "forecast", "success").takeSnapshot().percentileValues();
+
+        assertThat(Arrays.stream(percentiles).map(ValueAtPercentile::percentile).toList())
+            .containsExactly(0.5, 0.9, 0.99);
+    }
+
+    @Test
+    void metersAreRegisteredOncePerTool() {
+        finish("weather", "forecast", MILLIS, true);
+        finish("weather", "forecast", MILLIS, true);
+        finish("weather", "alerts", MILLIS, true);
+        finish("search", "forecast", MILLIS, true);
+
+        assertThat(registry.find(ToolCallMetrics.CALLS_METER).timers()).hasSize(6);
+        assertThat(registry.find(ToolCallMetrics.IN_FLIGHT_METER).gauges()).hasSize(3);
+        assertThat(registry.get(ToolCallMetrics.CALLS_METER).tag("tool", "forecast").timers()).hasSize(4);
+        assertThat(timer("weather", "forecast", "success").count()).isEqualTo(2);
+    }
+
+    private void finish(String server, String tool, long latencyNanos, boolean success) {
+        metrics.callStarted(server, tool);
+        metrics.callFinished(server, tool, System.nanoTime() - latencyNanos, success);
+    }
+
+    private Timer timer(String server, String tool, String outcome) {
+        return registry.get(ToolCallMetrics.CALLS_METER)
+            .tags("server", server, "tool", tool, "outcome", outcome)
+            .timer();
+    }
+
+    private double inFlightGauge(String server, String tool) {
+        return registry.get(ToolCallMetrics.IN_FLIGHT_METER)
+            .tags("server", server, "tool", tool)
+            .gauge()
+            .value();
+    }
+}
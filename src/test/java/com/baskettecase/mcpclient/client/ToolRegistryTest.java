@@ -0,0 +1,59 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolRegistryTest {
+
+    @Test
+    void cleanToolNameKeepsLastSegmentOfGeneratedNames() {
+        assertThat(ToolRegistry.cleanToolName("generic_mcp_client_generic_getHello")).isEqualTo("getHello");
+        assertThat(ToolRegistry.cleanToolName("client_server_method")).isEqualTo("method");
+    }
+
+    @Test
+    void cleanToolNameKeepsNamesWithFewerThanThreeSegments() {
+        assertThat(ToolRegistry.cleanToolName("getHello")).isEqualTo("getHello");
+        assertThat(ToolRegistry.cleanToolName("get_hello")).isEqualTo("get_hello");
+        assertThat(ToolRegistry.cleanToolName("")).isEmpty();
+    }
+
+    @Test
+    void cleanToolNameMatchesSplitOnEdgeCases() {
+        for (String name : List.of("a_b_c__", "__x", "a__", "_a_b", "a__b", "___", "a_b_", "x_y_z_w")) {
+            assertThat(ToolRegistry.cleanToolName(name)).as(name).isEqualTo(splitClean(name));
+        }
+    }
+
+    @Test
+    void restoredCatalogIsIndexedAndMarkedCached() {
+        ToolRegistry registry = new ToolRegistry();
+
+        ToolRegistry.Snapshot snapshot = registry.restore(List.of(
+            new McpSchema.Tool("get_weather", "Current weather", "{\"type\":\"object\",\"properties\":{\"city\":{\"type\":\"string\"}}}"),
+            new McpSchema.Tool("ping", null, "{}")));
+
+        assertThat(snapshot.cached()).isTrue();
+        assertThat(snapshot.version()).isEqualTo(1);
+        assertThat(snapshot.toolNames()).containsExactly("get_weather", "ping");
+        assertThat(registry.lookup("get_weather").mcpName()).isEqualTo("get_weather");
+        assertThat(registry.lookup("get_weather").schema().size()).isEqualTo(1);
+        assertThat(snapshot.summaries().get(1).description()).isEqualTo("No description available");
+
+        registry.clear();
+        assertThat(registry.isLoaded()).isFalse();
+        assertThat(registry.lookup("ping")).isNull();
+    }
+
+    /**
+     * The former split-based implementation
+     */
+    private static String splitClean(String name) {
+        String[] parts = name.split("_");
+        return parts.length >= 3 ? parts[parts.length - 1] : name;
+    }
+}
@@ -0,0 +1,121 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolResultCacheTest {
+
+    // Each entry below costs 2 * 9 key chars + 2 * 100 result chars + 96 = 314 bytes
+    private static final String MAX_SIZE = "1000B";
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        ToolResultCache cache = cache(MAX_SIZE);
+        cache.put(key(1), result());
+        cache.put(key(2), result());
+        cache.put(key(3), result());
+
+        // Reading key 1 makes key 2 the least recently used entry
+        assertThat(cache.get(key(1))).isNotNull();
+        cache.put(key(4), result());
+
+        assertThat(cache.get(key(2))).isNull();
+        assertThat(cache.get(key(1))).isNotNull();
+        assertThat(cache.get(key(3))).isNotNull();
+        assertThat(cache.get(key(4))).isNotNull();
+
+        ToolResultCache.CacheStats stats = cache.stats();
+        assertThat(stats.entries()).isEqualTo(3);
+        assertThat(stats.evictions()).isEqualTo(1);
+        assertThat(stats.sizeInBytes()).isLessThanOrEqualTo(stats.maxBytes());
+    }
+
+    @Test
+    void neverExceedsSizeBound() {
+        ToolResultCache cache = cache(MAX_SIZE);
+        for (int i = 0; i < 9; i++) {
+            cache.put(key(i), result());
+            assertThat(cache.stats().sizeInBytes()).isLessThanOrEqualTo(1000);
+        }
+        assertThat(cache.stats().entries()).isEqualTo(3);
+        assertThat(cache.stats().evictions()).isEqualTo(6);
+    }
+
+    @Test
+    void replacingAnEntryDoesNotCountItTwice() {
+        ToolResultCache cache = cache(MAX_SIZE);
+        cache.put(key(1), result());
+        long size = cache.stats().sizeInBytes();
+
+        cache.put(key(1), result());
+
+        assertThat(cache.stats().entries()).isEqualTo(1);
+        assertThat(cache.stats().sizeInBytes()).isEqualTo(size);
+    }
+
+    @Test
+    void skipsResultsLargerThanTheCache() {
+        ToolResultCache cache = cache(MAX_SIZE);
+        cache.put(key(1), new McpSchema.CallToolResult(List.of(new McpSchema.TextContent("x".repeat(1000))), false));
+
+        assertThat(cache.get(key(1))).isNull();
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    void invalidatesOneServer() {
+        ToolResultCache cache = cache(MAX_SIZE);
+        cache.put(new ToolCallKey("a", "t", "{\"n\":1}"), result());
+        cache.put(new ToolCallKey("b", "t", "{\"n\":1}"), result());
+
+        cache.invalidate("a");
+
+        assertThat(cache.get(new ToolCallKey("a", "t", "{\"n\":1}"))).isNull();
+        assertThat(cache.get(new ToolCallKey("b", "t", "{\"n\":1}"))).isNotNull();
+    }
+
+    @Test
+    void zeroTtlDisablesCachingForATool() {
+        ToolResultCache cache = new ToolResultCache(new MockEnvironment()
+            .withProperty("mcp.client.cache.enabled", "true")
+            .withProperty("mcp.client.cache.tools.volatile", "0s"));
+
+        assertThat(cache.isCacheable("volatile")).isFalse();
+        assertThat(cache.isCacheable("t")).isTrue();
+    }
+
+    @Test
+    void keysIgnoreArgumentOrderButNotTypes() {
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        ordered.put("a", 1);
+        ordered.put("b", "x");
+        Map<String, Object> reversed = new LinkedHashMap<>();
+        reversed.put("b", "x");
+        reversed.put("a", 1);
+
+        assertThat(ToolCallKey.of("s", "t", ordered)).isEqualTo(ToolCallKey.of("s", "t", reversed));
+        assertThat(ToolCallKey.of("s", "t", Map.of("a", 1)))
+            .isNotEqualTo(ToolCallKey.of("s", "t", Map.of("a", "1")));
+    }
+
+    private static ToolResultCache cache(String maxSize) {
+        return new ToolResultCache(new MockEnvironment()
+            .withProperty("mcp.client.cache.enabled", "true")
+            .withProperty("mcp.client.cache.max-size", maxSize));
+    }
+
+    private static ToolCallKey key(int n) {
+        return new ToolCallKey("s", "t", "{\"n\":" + n + "}");
+    }
+
+    private static McpSchema.CallToolResult result() {
+        return new McpSchema.CallToolResult(List.of(new McpSchema.TextContent("x".repeat(100))), false);
+    }
+}
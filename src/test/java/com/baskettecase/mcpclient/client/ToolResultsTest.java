@@ -0,0 +1,76 @@
+package com.baskettecase.mcpclient.client;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolResultsTest {
+
+    @Test
+    void writesLargeBlockInBoundedSlices() throws Exception {
+        String block = "x".repeat(8 * 1024 * 1024);
+        McpSchema.CallToolResult result = new McpSchema.CallToolResult(
+            List.of(new McpSchema.TextContent(block)), false);
+        CountingChannel channel = new CountingChannel();
+
+        ToolResults.write(result, channel, StandardCharsets.UTF_8);
+
+        assertThat(channel.bytes).isEqualTo(block.length());
+        assertThat(channel.writes).isGreaterThan(1);
+        assertThat(channel.largestWrite).isLessThanOrEqualTo(64 * 1024);
+    }
+
+    @Test
+    void writeMatchesTextForMultiByteContent() throws Exception {
+        String block = "é😀x".repeat(20_000);
+        McpSchema.CallToolResult result = new McpSchema.CallToolResult(
+            List.of(new McpSchema.TextContent(block), new McpSchema.TextContent("tail")), false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ToolResults.write(result, Channels.newChannel(out), StandardCharsets.UTF_8);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(ToolResults.text(result));
+    }
+
+    @Test
+    void errorResultsArePrefixed() {
+        McpSchema.CallToolResult result = ToolResults.error("boom");
+
+        assertThat(ToolResults.isError(result)).isTrue();
+        assertThat(ToolResults.text(result)).isEqualTo("Error executing tool: boom");
+    }
+
+    private static final class CountingChannel implements WritableByteChannel {
+
+        long bytes;
+        int writes;
+        int largestWrite;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            bytes += n;
+            writes++;
+            largestWrite = Math.max(largestWrite, n);
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
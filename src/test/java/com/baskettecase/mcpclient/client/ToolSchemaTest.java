@@ -0,0 +1,171 @@
+package com.baskettecase.mcpclient.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolSchemaTest {
+
+    private static final ToolSchema WEATHER = ToolSchema.parse("""
+        {
+          "type": "object",
+          "properties": {
+            "city": {"type": "string", "description": "City name"},
+            "days": {"type": "integer"},
+            "threshold": {"type": "number"},
+            "alerts": {"type": "boolean"},
+            "tags": {"type": "array", "items": {"type": "string"}},
+            "options": {"type": "object"},
+            "unit": {"type": "string", "enum": ["celsius", "fahrenheit"]},
+            "level": {"type": "integer", "enum": [1, 2, 3]},
+            "anything": {"type": ["string", "null"]}
+          },
+          "required": ["city", "unit"]
+        }
+        """);
+
+    @Test
+    void compilesParametersInSchemaOrder() {
+        assertThat(WEATHER.size()).isEqualTo(9);
+        assertThat(WEATHER.parameters().stream().map(ToolSchema.Parameter::name).toList())
+            .containsExactly("city", "days", "threshold", "alerts", "tags", "options", "unit", "level", "anything");
+
+        ToolSchema.Parameter city = WEATHER.parameter("city");
+        assertThat(city.type()).isEqualTo(ToolSchema.ParamType.STRING);
+        assertThat(city.required()).isTrue();
+        assertThat(city.description()).isEqualTo("City name");
+        assertThat(WEATHER.parameter("days").description()).isEqualTo("No description available");
+        assertThat(WEATHER.parameter("days").required()).isFalse();
+        assertThat(WEATHER.parameter("tags").itemType()).isEqualTo(ToolSchema.ParamType.STRING);
+        assertThat(WEATHER.parameter("anything").type()).isEqualTo(ToolSchema.ParamType.ANY);
+        assertThat(WEATHER.parameter("unit").allowedValues()).containsExactly("celsius", "fahrenheit");
+        assertThat(WEATHER.parameter("level").allowedValues()).containsExactly(1, 2, 3);
+        assertThat(WEATHER.parameter("city").allowedValues()).isEmpty();
+    }
+
+    @Test
+    void unusableSchemasCompileToEmpty() {
+        assertThat(ToolSchema.parse((String) null)).isSameAs(ToolSchema.EMPTY);
+        assertThat(ToolSchema.parse("  ")).isSameAs(ToolSchema.EMPTY);
+        assertThat(ToolSchema.parse("{not json")).isSameAs(ToolSchema.EMPTY);
+        assertThat(ToolSchema.parse("[1, 2]")).isSameAs(ToolSchema.EMPTY);
+        assertThat(ToolSchema.parse("{\"type\":\"object\"}").isEmpty()).isTrue();
+    }
+
+    @Test
+    void acceptsValidArguments() {
+        assertThat(WEATHER.validate(valid())).isEmpty();
+    }
+
+    @Test
+    void reportsMissingRequiredParameters() {
+        Map<String, Object> arguments = valid();
+        arguments.remove("city");
+        arguments.put("unit", null);
+
+        assertThat(WEATHER.validate(arguments)).containsExactly(
+            "Missing required parameter: city",
+            "Missing required parameter: unit");
+    }
+
+    @Test
+    void optionalParametersMayBeOmitted() {
+        assertThat(WEATHER.validate(Map.of("city", "Paris", "unit", "celsius"))).isEmpty();
+    }
+
+    @Test
+    void reportsValuesThatCannotRepresentTheDeclaredType() {
+        Map<String, Object> arguments = valid();
+        arguments.put("days", "three");
+        arguments.put("threshold", "NaN");
+        arguments.put("alerts", "yes");
+        arguments.put("tags", "a,b");
+        arguments.put("options", 5);
+
+        assertThat(WEATHER.validate(arguments)).containsExactly(
+            "Parameter 'days' must be of type integer (got String: three)",
+            "Parameter 'threshold' must be of type number (got String: NaN)",
+            "Parameter 'alerts' must be of type boolean (got String: yes)",
+            "Parameter 'tags' must be of type array (got String: a,b)",
+            "Parameter 'options' must be of type object (got Integer: 5)");
+    }
+
+    @Test
+    void acceptsLiteralsAndWholeNumbersForScalarTypes() {
+        Map<String, Object> arguments = valid();
+        arguments.put("days", "-7");
+        arguments.put("threshold", "1e3");
+        arguments.put("alerts", "TRUE");
+        assertThat(WEATHER.validate(arguments)).isEmpty();
+
+        arguments.put("days", 3.0);
+        assertThat(WEATHER.validate(arguments)).isEmpty();
+
+        arguments.put("days", 2.5);
+        assertThat(WEATHER.validate(arguments)).containsExactly(
+            "Parameter 'days' must be of type integer (got Double: 2.5)");
+
+        arguments.put("days", "+");
+        assertThat(WEATHER.validate(arguments)).hasSize(1);
+    }
+
+    @Test
+    void reportsValuesOutsideTheEnum() {
+        Map<String, Object> arguments = valid();
+        arguments.put("unit", "kelvin");
+        arguments.put("level", 4);
+
+        assertThat(WEATHER.validate(arguments)).containsExactly(
+            "Parameter 'unit' must be one of [celsius, fahrenheit] (got kelvin)",
+            "Parameter 'level' must be one of [1, 2, 3] (got 4)");
+    }
+
+    @Test
+    void enumMatchesNumbersByTheirText() {
+        Map<String, Object> arguments = valid();
+        arguments.put("level", 2L);
+        assertThat(WEATHER.validate(arguments)).isEmpty();
+
+        arguments.put("level", "3");
+        assertThat(WEATHER.validate(arguments)).isEmpty();
+    }
+
+    @Test
+    void typeErrorTakesPrecedenceOverEnum() {
+        Map<String, Object> arguments = valid();
+        arguments.put("level", "high");
+
+        assertThat(WEATHER.validate(arguments)).containsExactly(
+            "Parameter 'level' must be of type integer (got String: high)");
+    }
+
+    @Test
+    void reportsUnknownParametersOnlyWhenAdditionalPropertiesAreClosed() {
+        ToolSchema closed = ToolSchema.parse("""
+            {"type":"object","properties":{"q":{"type":"string"}},"additionalProperties":false}
+            """);
+        Map<String, Object> arguments = new HashMap<>(Map.of("q", "mcp", "limit", 5));
+
+        assertThat(closed.validate(arguments)).containsExactly("Unknown parameter: limit");
+        assertThat(WEATHER.validate(new HashMap<>(Map.of("city", "Paris", "unit", "celsius", "limit", 5)))).isEmpty();
+    }
+
+    private static Map<String, Object> valid() {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("city", "Paris");
+        arguments.put("days", 3);
+        arguments.put("threshold", 0.5);
+        arguments.put("alerts", true);
+        arguments.put("tags", new ArrayList<>(List.of("rain", "wind")));
+        arguments.put("options", Map.of("lang", "en"));
+        arguments.put("unit", "celsius");
+        arguments.put("level", 1);
+        arguments.put("anything", "x");
+        return arguments;
+    }
+}
@@ -0,0 +1,79 @@
+package com.baskettecase.mcpclient.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DynamicMcpConfigServiceTest {
+
+    private static final String COMMAND_KEY = "spring.ai.mcp.client.stdio.connections.weather.command";
+
+    private final StandardEnvironment environment = new StandardEnvironment();
+    private final List<DynamicMcpConfigService.ServerConfigChangedEvent> events = new ArrayList<>();
+    private final List<List<String>> namesAtEvent = new ArrayList<>();
+    private final DynamicMcpConfigService service = new DynamicMcpConfigService();
+
+    @BeforeEach
+    void setUp() {
+        ApplicationEventPublisher publisher = event -> {
+            events.add((DynamicMcpConfigService.ServerConfigChangedEvent) event);
+            var source = (EnumerablePropertySource<?>) environment.getPropertySources().get("dynamicMcpServers");
+            namesAtEvent.add(List.of(source.getPropertyNames()));
+        };
+        ReflectionTestUtils.setField(service, "environment", environment);
+        ReflectionTestUtils.setField(service, "eventPublisher", publisher);
+    }
+
+    @Test
+    void addPublishesEventAfterPropertiesReflectTheServer() {
+        assertThat(service.addServer("weather", "/opt/weather.jar")).isTrue();
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).serverName()).isEqualTo("weather");
+        assertThat(events.get(0).removed()).isFalse();
+        assertThat(events.get(0).config().jarPath()).isEqualTo("/opt/weather.jar");
+        assertThat(namesAtEvent.get(0)).contains(COMMAND_KEY, "spring.ai.mcp.client.stdio.connections.weather.args[4]");
+        assertThat(environment.getProperty(COMMAND_KEY)).isEqualTo("java");
+    }
+
+    @Test
+    void removePublishesEventAfterPropertiesDropTheServer() {
+        service.addServer("weather", "/opt/weather.jar");
+
+        assertThat(service.removeServer("weather")).isTrue();
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(1).removed()).isTrue();
+        assertThat(namesAtEvent.get(1)).doesNotContain(COMMAND_KEY);
+        assertThat(environment.getProperty(COMMAND_KEY)).isNull();
+    }
+
+    @Test
+    void unchangedConfigurationPublishesNothing() {
+        service.addServer("weather", "/opt/weather.jar");
+        service.addServer("weather", "/opt/weather.jar");
+
+        assertThat(events).hasSize(1);
+        assertThat(service.removeServer("missing")).isFalse();
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void changedJarPathPublishesNewConfiguration() {
+        service.addServer("weather", "/opt/weather.jar");
+        service.addServer("weather", "/opt/weather-2.jar");
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(1).config().jarPath()).isEqualTo("/opt/weather-2.jar");
+        assertThat(environment.getProperty("spring.ai.mcp.client.stdio.connections.weather.args[4]"))
+            .isEqualTo("/opt/weather-2.jar");
+    }
+}
@@ -0,0 +1,147 @@
+package com.baskettecase.mcpclient.config;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolCatalogCacheServiceTest {
+
+    private static final List<McpSchema.Tool> TOOLS = List.of(
+        new McpSchema.Tool("get_weather", "Current weather for a city",
+            "{\"type\":\"object\",\"properties\":{\"city\":{\"type\":\"string\"}},\"required\":[\"city\"]}"),
+        new McpSchema.Tool("ping", null, "{\"type\":\"object\"}"),
+        new McpSchema.Tool("größe", "Ünïcode ✓", "{\"type\":\"object\",\"properties\":{}}"));
+
+    @TempDir
+    Path home;
+
+    private Path catalogDir;
+    private Path jar;
+    private ToolCatalogCacheService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        catalogDir = home.resolve(".generic-mcp-client").resolve("catalogs");
+        jar = Files.write(home.resolve("server.jar"), new byte[] {1, 2, 3, 4});
+        service = new ToolCatalogCacheService(new MockEnvironment(), catalogDir);
+    }
+
+    @Test
+    void roundTripsToolsIncludingNullDescriptions() {
+        service.save("weather", jar, TOOLS);
+
+        List<McpSchema.Tool> loaded = service.load("weather", jar).orElseThrow();
+
+        assertThat(loaded).hasSize(3);
+        for (int i = 0; i < TOOLS.size(); i++) {
+            assertThat(loaded.get(i).name()).isEqualTo(TOOLS.get(i).name());
+            assertThat(loaded.get(i).description()).isEqualTo(TOOLS.get(i).description());
+            assertThat(loaded.get(i).inputSchema()).isEqualTo(TOOLS.get(i).inputSchema());
+        }
+        assertThat(loaded.get(1).description()).isNull();
+    }
+
+    @Test
+    void roundTripsEmptyCatalog() {
+        service.save("empty", jar, List.of());
+
+        assertThat(service.load("empty", jar).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void replacesCatalogAtomicallyWithoutLeavingTempFiles() throws IOException {
+        service.save("weather", jar, TOOLS);
+        service.save("weather", jar, TOOLS.subList(0, 1));
+
+        assertThat(service.load("weather", jar).orElseThrow()).hasSize(1);
+        assertThat(catalogFiles()).hasSize(1);
+        assertThat(catalogFiles().get(0).getFileName().toString()).startsWith("weather-").endsWith(".catalog");
+    }
+
+    @Test
+    void keepsNamesThatSanitizeAlikeApart() throws IOException {
+        service.save("a.b", jar, TOOLS.subList(0, 1));
+        service.save("a_b", jar, TOOLS);
+
+        assertThat(catalogFiles()).hasSize(2);
+        assertThat(service.load("a.b", jar).orElseThrow()).hasSize(1);
+        assertThat(service.load("a_b", jar).orElseThrow()).hasSize(3);
+    }
+
+    @Test
+    void rejectsCatalogOfChangedJar() throws IOException {
+        service.save("weather", jar, TOOLS);
+
+        Files.write(jar, new byte[] {1, 2, 3, 4, 5});
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 2000));
+
+        assertThat(service.load("weather", jar)).isEmpty();
+    }
+
+    @Test
+    void rejectsCatalogWhenJarIsMissing() throws IOException {
+        service.save("weather", jar, TOOLS);
+        Files.delete(jar);
+
+        assertThat(service.load("weather", jar)).isEmpty();
+    }
+
+    @Test
+    void rejectsCorruptFile() throws IOException {
+        service.save("weather", jar, TOOLS);
+        Path file = catalogFiles().get(0);
+
+        Files.write(file, "not a catalog".getBytes());
+
+        assertThat(service.load("weather", jar)).isEmpty();
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        service.save("weather", jar, TOOLS);
+        Path file = catalogFiles().get(0);
+        byte[] content = Files.readAllBytes(file);
+
+        // Cut inside the last tool's strings, then inside the header
+        Files.write(file, Arrays.copyOf(content, content.length - 5));
+        assertThat(service.load("weather", jar)).isEmpty();
+
+        Files.write(file, Arrays.copyOf(content, 10));
+        assertThat(service.load("weather", jar)).isEmpty();
+    }
+
+    @Test
+    void returnsEmptyWithoutSavedCatalog() {
+        assertThat(service.load("weather", jar)).isEmpty();
+    }
+
+    @Test
+    void disabledServiceNeitherSavesNorLoads() throws IOException {
+        ToolCatalogCacheService disabled = new ToolCatalogCacheService(
+            new MockEnvironment().withProperty("mcp.client.catalog-cache.enabled", "false"), catalogDir);
+
+        disabled.save("weather", jar, TOOLS);
+        assertThat(Files.exists(catalogDir)).isFalse();
+
+        service.save("weather", jar, TOOLS);
+        assertThat(disabled.load("weather", jar)).isEmpty();
+    }
+
+    private List<Path> catalogFiles() throws IOException {
+        try (Stream<Path> files = Files.list(catalogDir)) {
+            return files.sorted().toList();
+        }
+    }
+}
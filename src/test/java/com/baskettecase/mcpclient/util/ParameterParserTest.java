@@ -0,0 +1,104 @@
+package com.baskettecase.mcpclient.util;
+
+import com.baskettecase.mcpclient.client.ToolSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParameterParserTest {
+
+    private static final ToolSchema SCHEMA = ToolSchema.parse("""
+        {
+          "type": "object",
+          "properties": {
+            "name": {"type": "string"},
+            "count": {"type": "integer"},
+            "ratio": {"type": "number"},
+            "enabled": {"type": "boolean"},
+            "ids": {"type": "array", "items": {"type": "integer"}},
+            "tags": {"type": "array", "items": {"type": "string"}},
+            "options": {"type": "object"}
+          }
+        }
+        """);
+
+    private final ParameterParser parser = new ParameterParser();
+
+    @Test
+    void coercesKeyValuesToDeclaredTypes() {
+        Map<String, Object> parameters = parser.parseParameters(
+            new String[]{"name=42", "count=7", "ratio=2", "enabled=TRUE", "options={\"a\":1}"}, SCHEMA);
+
+        assertThat(parameters)
+            .containsEntry("name", "42")
+            .containsEntry("count", 7)
+            .containsEntry("ratio", 2)
+            .containsEntry("enabled", true)
+            .containsEntry("options", Map.of("a", 1));
+    }
+
+    @Test
+    void infersTypesWithoutSchema() {
+        Map<String, Object> parameters = parser.parseParameters(new String[]{"name=42", "flag=false", "x=1.5"});
+
+        assertThat(parameters)
+            .containsEntry("name", 42)
+            .containsEntry("flag", false)
+            .containsEntry("x", 1.5);
+    }
+
+    @Test
+    void keepsUndeclaredParametersInferred() {
+        Map<String, Object> parameters = parser.parseParameters(new String[]{"count=3", "extra=5"}, SCHEMA);
+
+        assertThat(parameters).containsEntry("count", 3).containsEntry("extra", 5);
+    }
+
+    @Test
+    void coercesCommaSeparatedArrayItems() {
+        Map<String, Object> parameters = parser.parseParameters(new String[]{"ids=1,2,3", "tags=a,b"}, SCHEMA);
+
+        assertThat(parameters.get("ids")).isEqualTo(List.of(1, 2, 3));
+        assertThat(parameters.get("tags")).isEqualTo(List.of("a", "b"));
+    }
+
+    @Test
+    void coercesJsonArrayItemsLikeCommaSeparatedOnes() {
+        Map<String, Object> json = parser.parseParameters(new String[]{"ids=[\"1\",\"2\",3]"}, SCHEMA);
+        Map<String, Object> commas = parser.parseParameters(new String[]{"ids=1,2,3"}, SCHEMA);
+
+        assertThat(json.get("ids")).isEqualTo(List.of(1, 2, 3));
+        assertThat(json).isEqualTo(commas);
+    }
+
+    @Test
+    void coercesArrayItemsOfJsonObjectArguments() {
+        Map<String, Object> parameters = parser.parseParameters(
+            new String[]{"{\"ids\":[\"4\",5],\"tags\":[\"7\"],\"count\":\"9\"}"}, SCHEMA);
+
+        assertThat(parameters.get("ids")).isEqualTo(List.of(4, 5));
+        assertThat(parameters.get("tags")).isEqualTo(List.of("7"));
+        assertThat(parameters).containsEntry("count", 9);
+    }
+
+    @Test
+    void rejectsValuesThatDoNotFitTheDeclaredType() {
+        assertThatThrownBy(() -> parser.parseParameters(new String[]{"count=abc"}, SCHEMA))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Parameter 'count' expects integer");
+        assertThatThrownBy(() -> parser.parseParameters(new String[]{"ids=[\"x\"]"}, SCHEMA))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Parameter 'ids' expects array");
+    }
+
+    @Test
+    void rejectsUnrecognizedFormat() {
+        assertThatThrownBy(() -> parser.parseParameters(new String[]{"just-a-word"}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("key=value");
+    }
+}
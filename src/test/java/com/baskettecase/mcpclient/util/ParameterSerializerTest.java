@@ -0,0 +1,122 @@
+package com.baskettecase.mcpclient.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParameterSerializerTest {
+
+    private final ParameterSerializer serializer = new ParameterSerializer();
+
+    @Test
+    void nullOrEmptyParametersSerializeToEmptyObject() {
+        assertThat(serializer.toJson(null)).isEqualTo("{}");
+        assertThat(serializer.toJson(Map.of())).isEqualTo("{}");
+        assertThat(serializer.serializedSize(null)).isEqualTo(2);
+        assertThat(serializer.serializedSize(Map.of())).isEqualTo(2);
+    }
+
+    @Test
+    void keepsValueTypes() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("name", "Bob");
+        parameters.put("count", 3);
+        parameters.put("ratio", 0.25);
+        parameters.put("enabled", true);
+        parameters.put("missing", null);
+
+        assertThat(serializer.toJson(parameters))
+            .isEqualTo("{\"name\":\"Bob\",\"count\":3,\"ratio\":0.25,\"enabled\":true,\"missing\":null}");
+    }
+
+    @Test
+    void serializesNestedMapsAndArrays() {
+        Map<String, Object> filter = new LinkedHashMap<>();
+        filter.put("tags", List.of("a", "b"));
+        filter.put("range", Map.of("min", 1));
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("filter", filter);
+        parameters.put("matrix", List.of(List.of(1, 2), List.of()));
+        parameters.put("ids", new int[] {7, 8});
+        parameters.put("records", List.of(Map.of("id", 1)));
+
+        assertThat(serializer.toJson(parameters)).isEqualTo("{\"filter\":{\"tags\":[\"a\",\"b\"],\"range\":{\"min\":1}},"
+            + "\"matrix\":[[1,2],[]],\"ids\":[7,8],\"records\":[{\"id\":1}]}");
+    }
+
+    @Test
+    void escapesStrings() throws Exception {
+        String text = "quote\" backslash\\ newline\n tab\t control\u0001 unicode é ✓ 😀";
+        Map<String, Object> parameters = Map.of("text", text);
+
+        String json = serializer.toJson(parameters);
+
+        assertThat(json).isEqualTo("{\"text\":\"quote\\\" backslash\\\\ newline\\n tab\\t control\\u0001 unicode é ✓ 😀\"}");
+        assertThat(new ObjectMapper().readTree(json).get("text").asText()).isEqualTo(text);
+    }
+
+    @Test
+    void serializedSizeIsUtf8LengthOfJson() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("text", "é ✓ 😀 \"quoted\" " + "😀".repeat(5000));
+        parameters.put("nested", Map.of("list", List.of(1, "two", 3.5)));
+
+        String json = serializer.toJson(parameters);
+
+        assertThat(serializer.serializedSize(parameters)).isEqualTo(json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void utf8LengthMatchesEncoder() {
+        for (String value : List.of("", "ascii", "é", "✓", "😀", "a😀b", "mixed é✓😀 text")) {
+            assertThat(ParameterSerializer.utf8Length(value)).as(value)
+                .isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    @Test
+    void unserializableValueIsRejected() {
+        Map<String, Object> parameters = Map.of("value", new Object());
+
+        assertThatThrownBy(() -> serializer.toJson(parameters))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Cannot serialize parameters");
+        assertThatThrownBy(() -> serializer.serializedSize(parameters))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sharedRecyclerPoolGivesSameOutputAcrossVirtualThreads() throws Exception {
+        // Large enough that generator buffers are taken from and returned to the pool
+        char[] chars = new char[20_000];
+        Arrays.fill(chars, 'x');
+        String large = new String(chars) + "\"é\"";
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Map<String, Object> parameters = new LinkedHashMap<>();
+                parameters.put("index", i);
+                parameters.put("payload", i % 2 == 0 ? large : "small");
+                results.add(executor.submit(() -> serializer.toJson(parameters)));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                String payload = i % 2 == 0 ? large.replace("\"", "\\\"") : "small";
+                assertThat(results.get(i).get()).isEqualTo("{\"index\":" + i + ",\"payload\":\"" + payload + "\"}");
+            }
+        }
+    }
+}